@@ -0,0 +1,44 @@
+package io.micronaut.configuration.zeebe.core.annotation.job;
+
+/**
+ * Defines on which thread the worker method is invoked and how the handler
+ * waits for its result.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public enum DispatchMode {
+
+    /**
+     * Use the global mode from configuration {@code zeebe.default-dispatch}. If
+     * it isn't set, void methods are invoked on the thread of job worker and
+     * other methods are offloaded to the executor.
+     */
+    DEFAULT,
+
+    /**
+     * Invoke the method on the thread of job worker without any thread hop. The
+     * result of async and reactive methods isn't awaited on this thread, they
+     * are handled as {@link #NONBLOCKING}.
+     */
+    DIRECT,
+
+    /**
+     * Invoke the method on the executor of module, the thread of job worker is
+     * released immediately. Use it for blocking methods.
+     */
+    OFFLOAD,
+
+    /**
+     * Invoke the method on the thread of job worker and subscribe to its result
+     * without a thread hop. Use it for methods that don't block.
+     */
+    NONBLOCKING,
+
+    /**
+     * Invoke the method on a new virtual thread, so blocking methods don't hold
+     * threads of the executor. Virtual threads are supported since Java 21, on
+     * older versions the method is offloaded to the executor.
+     */
+    VIRTUAL
+}
@@ -0,0 +1,30 @@
+package io.micronaut.configuration.zeebe.core.annotation.job;
+
+/**
+ * Defines which jobs of a worker are handled one after another. The jobs with
+ * the same ordering key are handled serially in the order of activation, the
+ * jobs with different keys are handled in parallel.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public enum Ordering {
+
+    /**
+     * Jobs are handled in parallel.
+     */
+    NONE,
+
+    /**
+     * Jobs of the same process instance are handled serially, e.g. parallel
+     * multi-instance tasks that update one aggregate.
+     */
+    PROCESS_INSTANCE,
+
+    /**
+     * Jobs with the same value of the variable {@code orderingVariable} are
+     * handled serially. The jobs without the variable are ordered by process
+     * instance.
+     */
+    VARIABLE
+}
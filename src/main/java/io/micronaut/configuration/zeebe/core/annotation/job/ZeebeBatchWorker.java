@@ -0,0 +1,81 @@
+package io.micronaut.configuration.zeebe.core.annotation.job;
+
+import io.micronaut.configuration.zeebe.core.annotation.job.error.ZeebeError;
+import io.micronaut.context.annotation.AliasFor;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.core.bind.annotation.Bindable;
+
+import java.lang.annotation.*;
+
+/**
+ * Worker that handles the jobs of a type in batches. The activated jobs are
+ * collected until the batch is full or the linger time of the first job in it
+ * has passed, then the method is invoked once for the batch. The method has
+ * one argument, the list of {@code ActivatedJob} or the list of objects to
+ * which the variables of jobs are mapped. It returns nothing, then all jobs
+ * are completed, or the list of results in the order of the argument list.
+ * Every job is finished by its own result: an exception in the list is mapped
+ * by {@link #errors()}, any other value is the output variable of the job.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@Executable(processOnStartup = true)
+@Bindable
+@Inherited
+public @interface ZeebeBatchWorker {
+
+    @AliasFor(member = "type")
+    String value() default "";
+
+    @AliasFor(member = "value")
+    String type() default "";
+
+    String timeout() default "5m";
+
+    /**
+     * @return the max count of jobs in a batch
+     */
+    int batchSize() default 32;
+
+    /**
+     * @return the max time that the first job of a batch waits for the batch
+     *         to be filled
+     */
+    String linger() default "100ms";
+
+    long pollInterval() default 100;
+
+    /**
+     * @return the max poll interval of idle worker, by default
+     *         {@code zeebe.poll-backoff.max-interval} is used
+     */
+    String maxPollInterval() default "";
+
+    /**
+     * @return the priority of worker in the poll budget, from 1 to 10
+     */
+    int pollPriority() default 5;
+
+    String requestTimeout() default "10s";
+
+    String[] fetchVariables() default {};
+
+    ZeebeError[] errors() default {};
+
+    String outputVariableName() default "";
+
+    boolean autoComplete() default true;
+
+    /**
+     * @return the name of executor service bean on which the batches are
+     *         handled, by default the executor of module is used
+     */
+    String executor() default "";
+
+    String documentation() default "";
+
+}
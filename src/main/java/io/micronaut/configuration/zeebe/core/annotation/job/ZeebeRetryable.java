@@ -0,0 +1,57 @@
+package io.micronaut.configuration.zeebe.core.annotation.job;
+
+import java.lang.annotation.*;
+
+/**
+ * Retry of the worker method in the process before the job is failed. When the
+ * method throws an exception that isn't mapped to an error code of worker,
+ * the method is invoked again after the backoff, while there are attempts
+ * left and the next attempt starts before the deadline of job. Only when the
+ * attempts are exhausted, the job is failed and its retries in the broker are
+ * decreased, so short failures of a downstream don't cost the retries of job.
+ * <pre>
+ * &#64;ZeebeWorker(type = "payment")
+ * &#64;ZeebeRetryable(maxAttempts = 4, backoff = "200ms", on = IOException.class)
+ * public Receipt charge(&#64;ZeebeContextVariable("order") Order order) throws IOException {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD })
+@Inherited
+public @interface ZeebeRetryable {
+
+    /**
+     * @return the max count of invocations of the method for one activation of
+     *         job, including the first one
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * @return the delay before the first retry
+     */
+    String backoff() default "100ms";
+
+    /**
+     * @return the max delay between retries
+     */
+    String maxBackoff() default "5s";
+
+    /**
+     * @return the multiplier of the delay after every retry
+     */
+    double multiplier() default 2.0;
+
+    /**
+     * @return the exceptions after which the method is retried, empty for any
+     *         exception that isn't mapped to an error code, except the failures
+     *         to bind the variables of job, which fail the same way on every
+     *         attempt
+     */
+    Class<? extends Throwable>[] on() default {};
+}
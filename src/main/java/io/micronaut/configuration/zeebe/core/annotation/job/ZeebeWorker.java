@@ -31,16 +31,103 @@ public @interface ZeebeWorker {
 
     long pollInterval() default 100;
 
+    /**
+     * @return the max poll interval of idle worker, the poll interval grows up to
+     *         it while activations return no jobs, by default
+     *         {@code zeebe.poll-backoff.max-interval} is used
+     */
+    String maxPollInterval() default "";
+
+    /**
+     * @return the priority of worker in the poll budget, from 1 to 10, workers
+     *         with higher priority are polled more often when the budget is
+     *         scarce
+     */
+    int pollPriority() default 5;
+
     String requestTimeout() default "10s";
 
     String[] fetchVariables() default {};
 
+    /**
+     * @return whether the values of {@link ZeebeContextVariable} and
+     *         {@link ZeebeContextMapper} with path are extracted from the
+     *         variables document by one streaming pass instead of parsing the
+     *         whole document; it is done only for strings, integers, doubles and
+     *         booleans, other values are bound as usual
+     */
+    boolean streamVariables() default false;
+
     ZeebeError[] errors() default {};
 
     String outputVariableName() default "";
 
     boolean autoComplete() default true;
 
+    DispatchMode dispatch() default DispatchMode.DEFAULT;
+
+    /**
+     * @return the max count of jobs of this worker in work, 0 means that only
+     *         {@link #maxJobsToActivate()} limits it
+     */
+    int concurrency() default 0;
+
+    /**
+     * @return the name of executor service bean on which the offloaded worker is
+     *         invoked, by default the executor of module is used
+     */
+    String executor() default "";
+
+    /**
+     * @return which jobs of the worker are handled one after another
+     */
+    Ordering ordering() default Ordering.NONE;
+
+    /**
+     * @return the variable whose value is the ordering key of
+     *         {@link Ordering#VARIABLE} ordering, nested variables are separated
+     *         by dot
+     */
+    String orderingVariable() default "";
+
+    /**
+     * @return the max rate of jobs of the worker, e.g. {@code 200/s},
+     *         {@code 10/m} or {@code 5/10s}, empty for no limit. When the rate
+     *         is reached, the worker doesn't activate new jobs
+     */
+    String rateLimit() default "";
+
+    /**
+     * @return the max rate of jobs with the same key, the key is taken from
+     *         {@link #rateLimitVariable()} or {@link #rateLimitHeader()}
+     */
+    String keyRateLimit() default "";
+
+    /**
+     * @return the variable whose value is the key of {@link #keyRateLimit()},
+     *         nested variables are separated by dot
+     */
+    String rateLimitVariable() default "";
+
+    /**
+     * @return the custom header whose value is the key of
+     *         {@link #keyRateLimit()}
+     */
+    String rateLimitHeader() default "";
+
+    /**
+     * @return the name of custom header by which the jobs of the type are
+     *         routed, the workers of the same type with routing header share one
+     *         subscription
+     */
+    String routeHeader() default "";
+
+    /**
+     * @return the value of routing header of the jobs that are handled by this
+     *         worker, empty for the jobs that match no other route
+     */
+    String routeValue() default "";
+
     String documentation() default "";
 
 }
@@ -2,6 +2,7 @@ package io.micronaut.configuration.zeebe.core.binder;
 
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.type.Argument;
 
 /**
  * Binder for zeebe ActiveJob
@@ -10,4 +11,16 @@ import io.micronaut.core.bind.ArgumentBinder;
  * @since 1.0.0
  */
 public interface JobBinder<T> extends ArgumentBinder<T, ActivatedJob> {
+
+    /**
+     * Prepare the binder for a concrete argument of a worker method. It is called
+     * once, when the worker is registered, so a binder can resolve the annotation
+     * values of the argument in advance instead of doing it for every job.
+     *
+     * @param argument Argument of worker method
+     * @return Binder that is bound to the argument
+     */
+    default JobBinder<T> prepare(Argument<T> argument) {
+        return this;
+    }
 }
@@ -36,13 +36,25 @@ public class JobBinderRegistry implements ArgumentBinderRegistry<ActivatedJob> {
 
     @Override
     public <T> Optional<ArgumentBinder<T, ActivatedJob>> findArgumentBinder(Argument<T> argument, ActivatedJob source) {
+        return findJobBinder(argument).map(binder -> binder);
+    }
+
+    /**
+     * Find binder for argument of worker method. The search doesn't depend on the
+     * job, so it can be done once when the worker is registered.
+     *
+     * @param argument Argument of worker method
+     * @param <T>      Type of argument
+     * @return Binder for the argument
+     */
+    public <T> Optional<JobBinder<T>> findJobBinder(Argument<T> argument) {
         Optional<Class<? extends Annotation>> annotationType = argument.getAnnotationMetadata()
                 .getAnnotationTypeByStereotype(Bindable.class);
         if (annotationType.isPresent()) {
             JobBinder<T> binder = (JobBinder<T>) argumentBinderMap.get(annotationType.get());
             return Optional.ofNullable(binder);
         } else {
-            return Optional.of(new JobDefaultBinder<>());
+            return Optional.of(JobDefaultBinder.getInstance());
         }
     }
 }
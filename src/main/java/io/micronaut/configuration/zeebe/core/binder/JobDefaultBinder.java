@@ -5,139 +5,117 @@ import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
 /**
+ * Binder for arguments without annotation. The binder doesn't have state, so a
+ * single shared instance is used for all arguments of all workers.
+ *
  * @author Gromov Vitaly.
  * @since 1.0.0
  */
-public class JobDefaultBinder<T> implements JobBinder<T> {
+public final class JobDefaultBinder<T> implements JobBinder<T> {
 
     public static final String HEADERS = "headers";
     public static final String VARIABLES = "variables";
-    private final Map<Argument<?>, Function<ActivatedJob, ?>> defaultResolver;
+    public static final String KEY = "key";
+    public static final String RETRIES = "retries";
+    public static final String DEADLINE = "deadline";
 
-    public JobDefaultBinder() {
-        this.defaultResolver = new HashMap<>();
-        /*
-         * Returns: the unique key of the job
-         */
-        final Function<ActivatedJob, ?> getKey = ActivatedJob::getKey;
-        /*
-         * Returns: key of the process instance
-         */
-        final Function<ActivatedJob, ?> getProcessInstanceKey = ActivatedJob::getProcessInstanceKey;
-        /*
-         * Returns: BPMN process id of the process
-         */
-        final Function<ActivatedJob, ?> getBpmnProcessId = ActivatedJob::getBpmnProcessId;
+    @SuppressWarnings("rawtypes")
+    private static final JobDefaultBinder INSTANCE = new JobDefaultBinder<>();
 
-        /*
-         * Returns: version of the process
-         */
-        final Function<ActivatedJob, ?> getProcessDefinitionVersion = ActivatedJob::getProcessDefinitionVersion;
+    /*
+     * Returns: the unique key of the job
+     */
+    private static final Function<ActivatedJob, ?> GET_KEY = ActivatedJob::getKey;
+    /*
+     * Returns: key of the process instance
+     */
+    private static final Function<ActivatedJob, ?> GET_PROCESS_INSTANCE_KEY = ActivatedJob::getProcessInstanceKey;
+    /*
+     * Returns: BPMN process id of the process
+     */
+    private static final Function<ActivatedJob, ?> GET_BPMN_PROCESS_ID = ActivatedJob::getBpmnProcessId;
+    /*
+     * Returns: version of the process
+     */
+    private static final Function<ActivatedJob, ?> GET_PROCESS_DEFINITION_VERSION = ActivatedJob::getProcessDefinitionVersion;
+    /*
+     * Returns: key of the process
+     */
+    private static final Function<ActivatedJob, ?> GET_PROCESS_DEFINITION_KEY = ActivatedJob::getProcessDefinitionKey;
+    /*
+     * Returns: id of the process element
+     */
+    private static final Function<ActivatedJob, ?> GET_ELEMENT_ID = ActivatedJob::getElementId;
+    /*
+     * Returns: key of the element instance
+     */
+    private static final Function<ActivatedJob, ?> GET_ELEMENT_INSTANCE_KEY = ActivatedJob::getElementInstanceKey;
+    /*
+     * Returns: remaining retries
+     */
+    private static final Function<ActivatedJob, ?> GET_RETRIES = ActivatedJob::getRetries;
+    /*
+     * Returns: the unix timestamp until when the job is exclusively assigned to
+     * this worker (time unit * is milliseconds since unix epoch). If the deadline
+     * is exceeded, it can happen that the job is handed to another worker and the
+     * work is performed twice.
+     */
+    private static final Function<ActivatedJob, ?> GET_DEADLINE = ActivatedJob::getDeadline;
 
-        /*
-         * Returns: key of the process
-         */
-        final Function<ActivatedJob, ?> getProcessDefinitionKey = ActivatedJob::getProcessDefinitionKey;
+    private static final Map<Argument<?>, Function<ActivatedJob, ?>> DEFAULT_RESOLVERS = Map.ofEntries(
+            Map.entry(Argument.of(Long.class, KEY), GET_KEY),
+            Map.entry(Argument.of(long.class, KEY), GET_KEY),
+            Map.entry(Argument.of(Long.class, "processInstanceKey"), GET_PROCESS_INSTANCE_KEY),
+            Map.entry(Argument.of(long.class, "processInstanceKey"), GET_PROCESS_INSTANCE_KEY),
+            Map.entry(Argument.of(String.class, "bpmnProcessId"), GET_BPMN_PROCESS_ID),
+            Map.entry(Argument.of(Integer.class, "processDefinitionVersion"), GET_PROCESS_DEFINITION_VERSION),
+            Map.entry(Argument.of(int.class, "processDefinitionVersion"), GET_PROCESS_DEFINITION_VERSION),
+            Map.entry(Argument.of(Long.class, "processDefinitionKey"), GET_PROCESS_DEFINITION_KEY),
+            Map.entry(Argument.of(long.class, "processDefinitionKey"), GET_PROCESS_DEFINITION_KEY),
+            Map.entry(Argument.of(String.class, "elementId"), GET_ELEMENT_ID),
+            Map.entry(Argument.of(Long.class, "elementInstanceKey"), GET_ELEMENT_INSTANCE_KEY),
+            Map.entry(Argument.of(long.class, "elementInstanceKey"), GET_ELEMENT_INSTANCE_KEY),
+            Map.entry(Argument.of(Integer.class, RETRIES), GET_RETRIES),
+            Map.entry(Argument.of(int.class, RETRIES), GET_RETRIES),
+            Map.entry(Argument.of(Long.class, DEADLINE), GET_DEADLINE),
+            Map.entry(Argument.of(long.class, DEADLINE), GET_DEADLINE));
 
-        /*
-         * Returns: id of the process element
-         */
-        final Function<ActivatedJob, ?> getElementId = ActivatedJob::getElementId;
-
-        /*
-         * Returns: key of the element instance
-         */
-        final Function<ActivatedJob, ?> getElementInstanceKey = ActivatedJob::getElementInstanceKey;
-
-        /*
-         * Returns: remaining retries
-         */
-        final Function<ActivatedJob, ?> getRetries = ActivatedJob::getRetries;
-
-        /*
-         * Returns: the unix timestamp until when the job is exclusively assigned to
-         * this worker (time unit * is milliseconds since unix epoch). If the deadline
-         * is exceeded, it can happen that the job is handed to another worker and the
-         * work is performed twice.
-         */
-        final Function<ActivatedJob, ?> getDeadline = ActivatedJob::getDeadline;
+    private JobDefaultBinder() {
+    }
 
-        this.defaultResolver.put(
-                Argument.of(Long.class, "key"),
-                getKey);
-        this.defaultResolver.put(
-                Argument.of(long.class, "key"),
-                getKey);
-        this.defaultResolver.put(
-                Argument.of(Long.class, "processInstanceKey"),
-                getProcessInstanceKey);
-        this.defaultResolver.put(
-                Argument.of(long.class, "processInstanceKey"),
-                getProcessInstanceKey);
-        this.defaultResolver.put(
-                Argument.of(String.class, "bpmnProcessId"),
-                getBpmnProcessId);
-        this.defaultResolver.put(
-                Argument.of(Integer.class, "processDefinitionVersion"),
-                getProcessDefinitionVersion);
-        this.defaultResolver.put(
-                Argument.of(int.class, "processDefinitionVersion"),
-                getProcessDefinitionVersion);
-        this.defaultResolver.put(
-                Argument.of(Long.class, "processDefinitionKey"),
-                getProcessDefinitionKey);
-        this.defaultResolver.put(
-                Argument.of(long.class, "processDefinitionKey"),
-                getProcessDefinitionKey);
-        this.defaultResolver.put(
-                Argument.of(String.class, "elementId"),
-                getElementId);
-        this.defaultResolver.put(
-                Argument.of(Long.class, "elementInstanceKey"),
-                getElementInstanceKey);
-        this.defaultResolver.put(
-                Argument.of(long.class, "elementInstanceKey"),
-                getElementInstanceKey);
-        this.defaultResolver.put(
-                Argument.of(Integer.class, "retries"),
-                getRetries);
-        this.defaultResolver.put(
-                Argument.of(int.class, "retries"),
-                getRetries);
-        this.defaultResolver.put(
-                Argument.of(Long.class, "deadline"),
-                getDeadline);
-        this.defaultResolver.put(
-                Argument.of(long.class, "deadline"),
-                getDeadline);
+    /**
+     * @param <T> Type of argument
+     * @return Shared instance of default binder
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JobDefaultBinder<T> getInstance() {
+        return (JobDefaultBinder<T>) INSTANCE;
     }
 
     @Override
     public BindingResult<T> bind(ArgumentConversionContext<T> context, ActivatedJob source) {
         Argument<T> argument = context.getArgument();
-        Function<ActivatedJob, ?> f = defaultResolver.get(argument);
+        Function<ActivatedJob, ?> f = DEFAULT_RESOLVERS.get(argument);
 
         if (f != null) {
-            Optional<?> opt = Optional.of(f.apply(source));
-            return () -> (Optional<T>) opt;
+            return resolved(f.apply(source));
         } else if (Objects.equals(argument.getType(), ActivatedJob.class)) {
-            Optional<ActivatedJob> opt = Optional.of(source);
-            // noinspection unchecked
-            return () -> (Optional<T>) opt;
+            return resolved(source);
         } else {
             if (Objects.equals(argument.getName(), HEADERS)) {
                 Object value = source.getCustomHeaders();
                 Optional<T> converted = ConversionService.SHARED.convert(value, context);
                 return () -> converted;
             } else if (Objects.equals(argument.getName(), VARIABLES)) {
-                Object value = source.getVariablesAsMap();
+                // The parsed variables are shared by all arguments, the method gets its own copy
+                Object value = new LinkedHashMap<>(source.getVariablesAsMap());
                 Optional<T> converted = ConversionService.SHARED.convert(value, context);
                 return () -> converted;
             } else {
@@ -146,4 +124,26 @@ public class JobDefaultBinder<T> implements JobBinder<T> {
             }
         }
     }
+
+    /**
+     * The resolver of argument is looked up once, when the worker is registered.
+     */
+    @Override
+    public JobBinder<T> prepare(Argument<T> argument) {
+        final Function<ActivatedJob, ?> f = DEFAULT_RESOLVERS.get(argument);
+        if (f != null)
+            return (context, source) -> resolved(f.apply(source));
+        if (Objects.equals(argument.getType(), ActivatedJob.class))
+            return (context, source) -> resolved(source);
+        return this;
+    }
+
+    /**
+     * The type of value is defined by the resolver of argument.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> BindingResult<T> resolved(Object value) {
+        final Optional<T> resolved = Optional.of((T) value);
+        return () -> resolved;
+    }
 }
@@ -0,0 +1,197 @@
+package io.micronaut.configuration.zeebe.core.binder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.micronaut.core.type.Argument;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Extracts the values of the requested paths from the variables document of a
+ * job in one streaming pass. Only the fields that are on the requested paths
+ * are read, all other subtrees are skipped without building them, and the
+ * parsing stops as soon as all values are found.
+ * <p>
+ * A value is read directly from the token only if the token is converted to the
+ * type of argument exactly: a string to {@code String}, an integer that fits
+ * into {@code int} or {@code long}, a number to {@code double} and a boolean.
+ * Other values are read by the object mapper, or, if the extractor doesn't bind
+ * data, they are left {@link #UNRESOLVED}, so the caller binds them as usual.
+ * The values are returned in an object array, so scalars are boxed.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class StreamingVariablesExtractor {
+
+    /**
+     * Value that isn't read because it can't be converted to the type of argument
+     * exactly.
+     */
+    public static final Object UNRESOLVED = new Object();
+    private static final Set<Class<?>> EXACT_TYPES = Set.of(String.class, int.class, Integer.class, long.class,
+            Long.class, double.class, Double.class, boolean.class, Boolean.class);
+    private final ObjectMapper mapper;
+    private final Node root;
+    private final int size;
+    private final boolean dataBinding;
+
+    private StreamingVariablesExtractor(ObjectMapper mapper, Node root, int size, boolean dataBinding) {
+        this.mapper = mapper;
+        this.root = root;
+        this.size = size;
+        this.dataBinding = dataBinding;
+    }
+
+    /**
+     * Create extractor for the paths that reads the values of complex types by
+     * the object mapper. The value of path with index i is put in the slot i of
+     * the extracted values.
+     *
+     * @param mapper    Object mapper that is used to read values of complex types
+     * @param paths     Paths to values, every path is a list of field names
+     * @param arguments Arguments to which the values will be bound
+     * @return Extractor or empty if the paths overlap, in this case the values
+     *         can't be read in one pass
+     */
+    public static Optional<StreamingVariablesExtractor> of(ObjectMapper mapper, List<List<String>> paths,
+                                                           List<Argument<?>> arguments) {
+        return of(mapper, paths, arguments, true);
+    }
+
+    /**
+     * @param dataBinding If false, the values that can't be read from the token
+     *                    exactly are {@link #UNRESOLVED}
+     */
+    public static Optional<StreamingVariablesExtractor> of(ObjectMapper mapper, List<List<String>> paths,
+                                                           List<Argument<?>> arguments, boolean dataBinding) {
+        final Node root = new Node();
+        for (int slot = 0; slot < paths.size(); slot++) {
+            final List<String> path = paths.get(slot);
+            if (path.isEmpty())
+                return Optional.empty();
+            Node node = root;
+            for (String key : path) {
+                if (node.slot >= 0)
+                    return Optional.empty();
+                node = node.children.computeIfAbsent(key, k -> new Node());
+            }
+            if (node.slot >= 0 || !node.children.isEmpty())
+                return Optional.empty();
+            final Argument<?> argument = arguments.get(slot);
+            node.slot = slot;
+            node.type = argument.getType();
+            node.javaType = toJavaType(mapper.getTypeFactory(), argument);
+        }
+        return Optional.of(new StreamingVariablesExtractor(mapper, root, paths.size(), dataBinding));
+    }
+
+    /**
+     * @param type Type of argument
+     * @return true if the values of the type can be read from the token
+     *         without the object mapper
+     */
+    public static boolean isExactType(Class<?> type) {
+        return EXACT_TYPES.contains(type);
+    }
+
+    private static JavaType toJavaType(TypeFactory typeFactory, Argument<?> argument) {
+        final Argument<?>[] typeParameters = argument.getTypeParameters();
+        if (typeParameters.length == 0)
+            return typeFactory.constructType(argument.getType());
+        final JavaType[] parameterTypes = new JavaType[typeParameters.length];
+        for (int i = 0; i < typeParameters.length; i++) {
+            parameterTypes[i] = toJavaType(typeFactory, typeParameters[i]);
+        }
+        return typeFactory.constructParametricType(argument.getType(), parameterTypes);
+    }
+
+    /**
+     * Extract values from the variables document.
+     *
+     * @param variables Variables document of the job
+     * @return Extracted values, the value is null if it is absent in the document
+     */
+    public Object[] extract(String variables) {
+        final Object[] values = new Object[size];
+        try (JsonParser parser = mapper.getFactory().createParser(variables)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT)
+                readObject(parser, root, values, size);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read variables of job: " + e.getMessage(), e);
+        }
+        return values;
+    }
+
+    /**
+     * Read the object on which the parser stands.
+     *
+     * @return the count of values that are still not found
+     */
+    private int readObject(JsonParser parser, Node node, Object[] values, int remaining) throws IOException {
+        while (remaining > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+            final Node child = node.children.get(parser.getCurrentName());
+            final JsonToken token = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+            } else if (child.slot >= 0) {
+                values[child.slot] = readValue(parser, token, child);
+                remaining--;
+            } else if (token == JsonToken.START_OBJECT) {
+                remaining = readObject(parser, child, values, remaining);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Read the value from the token if it is converted exactly: an integer isn't
+     * truncated and doesn't overflow, a string isn't coerced to a number.
+     */
+    private Object readValue(JsonParser parser, JsonToken token, Node node) throws IOException {
+        if (token == JsonToken.VALUE_NULL)
+            return null;
+        final Class<?> type = node.type;
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            final JsonParser.NumberType numberType = parser.getNumberType();
+            if ((type == int.class || type == Integer.class) && numberType == JsonParser.NumberType.INT)
+                return parser.getIntValue();
+            if ((type == long.class || type == Long.class)
+                    && (numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG))
+                return parser.getLongValue();
+        }
+        if (token.isNumeric() && (type == double.class || type == Double.class)
+                && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER)
+            return parser.getDoubleValue();
+        if (token.isBoolean() && (type == boolean.class || type == Boolean.class))
+            return parser.getBooleanValue();
+        if (token == JsonToken.VALUE_STRING && type == String.class)
+            return parser.getText();
+        if (dataBinding)
+            return mapper.readValue(parser, node.javaType);
+        parser.skipChildren();
+        return UNRESOLVED;
+    }
+
+    /**
+     * Node of tree of requested paths
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        // Slot of value, if the node is the end of path
+        private int slot = -1;
+        private Class<?> type;
+        private JavaType javaType;
+    }
+}
@@ -7,16 +7,16 @@ import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
 import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
-import static io.micronaut.core.util.StringUtils.isEmpty;
-
 /**
  * Binder for context mapper annotation. Extract data from context of business
  * process and map it to object with defined class.
@@ -42,13 +42,18 @@ public class ZeebeContextMapperBinder<T> implements AnnotatedJobBinder<ZeebeCont
 
     @Override
     public BindingResult<T> bind(ArgumentConversionContext<T> context, ActivatedJob source) {
+        return bind(getPath(context.getArgument()), context, source);
+    }
 
-        final String path = context.getArgument().getAnnotationMetadata()
-                .stringValue(ZeebeContextMapper.class, "path")
-                .orElse("");
+    @Override
+    public JobBinder<T> prepare(Argument<T> argument) {
+        final List<String> path = getPath(argument);
+        return (context, source) -> bind(path, context, source);
+    }
 
-        if (StringUtils.isNotEmpty(path)) {
-            Optional<Object> rawExtractedValue = recursive(path, source.getVariablesAsMap());
+    private BindingResult<T> bind(List<String> path, ArgumentConversionContext<T> context, ActivatedJob source) {
+        if (!path.isEmpty()) {
+            Optional<Object> rawExtractedValue = extract(path, source.getVariablesAsMap());
             if (rawExtractedValue.isEmpty() && !context.getArgument().isNullable())
                 throw new UnsatisfiedArgumentException(context.getArgument());
             if (rawExtractedValue.isEmpty())
@@ -65,27 +70,29 @@ public class ZeebeContextMapperBinder<T> implements AnnotatedJobBinder<ZeebeCont
         return BindingResult.EMPTY;
     }
 
+    private List<String> getPath(Argument<T> argument) {
+        final String path = argument.getAnnotationMetadata()
+                .stringValue(ZeebeContextMapper.class, "path")
+                .orElse("");
+        return StringUtils.splitOmitEmptyStringsList(path, '.');
+    }
+
     /**
      * Method tries to extract object from map of business process context by
      * defined path
      *
-     * @param path   Path to object from map of business process context
+     * @param path   Keys of path to object from map of business process context
      * @param source Map of business process context
      * @return extracted object
      */
-    private Optional<Object> recursive(final String path, final Map<String, ?> source) {
-        if (isEmpty(path) || Objects.isNull(source) || source.isEmpty())
-            return Optional.empty();
-        if (path.contains(".")) {
-            final String key = StringUtils.splitOmitEmptyStringsList(path, '.').get(0);
-            final String subPath = path.substring(key.length() + 1);
-            final Object subMap = source.get(key);
-            if (subMap instanceof Map) {
-                return recursive(subPath, (Map<String, ?>) subMap);
-            } else
+    private Optional<Object> extract(final List<String> path, final Map<String, ?> source) {
+        Object current = source;
+        for (String key : path) {
+            if (!(current instanceof Map) || ((Map<?, ?>) current).isEmpty())
                 return Optional.empty();
-        } else
-            return Optional.ofNullable(source.get(path));
+            current = ((Map<?, ?>) current).get(key);
+        }
+        return Optional.ofNullable(current);
     }
 
 }
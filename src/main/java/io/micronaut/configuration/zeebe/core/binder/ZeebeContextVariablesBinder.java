@@ -7,6 +7,7 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
 import jakarta.inject.Singleton;
 
 import java.util.Map;
@@ -30,11 +31,17 @@ public class ZeebeContextVariablesBinder<T> implements AnnotatedJobBinder<ZeebeC
 
     @Override
     public BindingResult<T> bind(ArgumentConversionContext<T> context, ActivatedJob source) {
+        return bind(getVariableName(context.getArgument()), context, source);
+    }
+
+    @Override
+    public JobBinder<T> prepare(Argument<T> argument) {
+        final String name = getVariableName(argument);
+        return (context, source) -> bind(name, context, source);
+    }
+
+    private BindingResult<T> bind(String name, ArgumentConversionContext<T> context, ActivatedJob source) {
         final Map<String, Object> vars = source.getVariablesAsMap();
-        final AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
-        final String name = annotationMetadata
-                .stringValue(ZeebeContextVariable.class)
-                .orElse(context.getArgument().getName());
         final Object value = vars.get(name);
         if (Objects.nonNull(value)) {
             Optional<T> converted = ConversionService.SHARED.convert(value, context);
@@ -42,4 +49,11 @@ public class ZeebeContextVariablesBinder<T> implements AnnotatedJobBinder<ZeebeC
         }
         return BindingResult.EMPTY;
     }
+
+    private String getVariableName(Argument<T> argument) {
+        final AnnotationMetadata annotationMetadata = argument.getAnnotationMetadata();
+        return annotationMetadata
+                .stringValue(ZeebeContextVariable.class)
+                .orElse(argument.getName());
+    }
 }
@@ -7,6 +7,7 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
 import jakarta.inject.Singleton;
 
 import java.util.Map;
@@ -30,11 +31,17 @@ public class ZeebeJobHeaderBinder<T> implements AnnotatedJobBinder<ZeebeHeader,
 
     @Override
     public BindingResult<T> bind(ArgumentConversionContext<T> context, ActivatedJob source) {
+        return bind(getHeaderName(context.getArgument()), context, source);
+    }
+
+    @Override
+    public JobBinder<T> prepare(Argument<T> argument) {
+        final String name = getHeaderName(argument);
+        return (context, source) -> bind(name, context, source);
+    }
+
+    private BindingResult<T> bind(String name, ArgumentConversionContext<T> context, ActivatedJob source) {
         final Map<String, String> headers = source.getCustomHeaders();
-        final AnnotationMetadata annotationMetadata = context.getAnnotationMetadata();
-        final String name = annotationMetadata
-                .stringValue(ZeebeHeader.class)
-                .orElse(context.getArgument().getName());
         final Object value = headers.get(name);
         if (Objects.nonNull(value)) {
             Optional<T> converted = ConversionService.SHARED.convert(value, context);
@@ -42,4 +49,11 @@ public class ZeebeJobHeaderBinder<T> implements AnnotatedJobBinder<ZeebeHeader,
         }
         return BindingResult.EMPTY;
     }
+
+    private String getHeaderName(Argument<T> argument) {
+        final AnnotationMetadata annotationMetadata = argument.getAnnotationMetadata();
+        return annotationMetadata
+                .stringValue(ZeebeHeader.class)
+                .orElse(argument.getName());
+    }
 }
@@ -1,6 +1,8 @@
 package io.micronaut.configuration.zeebe.core.configuration;
 
 import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.micronaut.configuration.zeebe.core.annotation.job.DispatchMode;
+import io.micronaut.configuration.zeebe.core.annotation.job.Ordering;
 import io.micronaut.core.util.Toggleable;
 
 import java.io.Serializable;
@@ -16,12 +18,20 @@ import java.util.Map;
  */
 public class WorkerConfiguration implements Toggleable, Serializable {
 
+    public static final int DEFAULT_POLL_PRIORITY = 5;
+
     // The nam of worker
     private String type;
     private boolean enabled;
     private Duration timeout;
     private Integer maxJobsToActivate;
     private Duration pollInterval;
+    // Max poll interval of idle worker, null if the interval doesn't grow
+    private Duration maxPollInterval;
+    // Multiplier of poll interval after empty activation
+    private double pollBackoffMultiplier;
+    // Priority of worker in the poll budget, from 1 to 10
+    private int pollPriority = DEFAULT_POLL_PRIORITY;
     private Duration requestTimeout;
     // List of variables that need to be fetched to job
     private List<String> fetchVariables;
@@ -33,6 +43,46 @@ public class WorkerConfiguration implements Toggleable, Serializable {
     private String outputVariableName;
     // Use for auto complete job.
     private boolean autoComplete;
+    // Defines on which thread the job is handled.
+    private DispatchMode dispatchMode;
+    // Max count of jobs in work, null if it is limited only by max jobs to activate
+    private Integer concurrency;
+    // Name of executor on which the worker is invoked, null for executor of module
+    private String executor;
+    // Max count of jobs in a batch, null if the worker handles jobs one by one
+    private Integer batchSize;
+    // Max time that the first job of a batch waits for the batch to be filled
+    private Duration batchLinger;
+    // Name of custom header by which jobs are routed, null if the worker has own subscription
+    private String routeHeader;
+    // Value of routing header of jobs of the worker, empty for jobs without other route
+    private String routeValue;
+    // Min time before the deadline of job to start it, null if jobs are always started
+    private Duration minRemainingTime;
+    // Which jobs are handled one after another, null if jobs are handled in parallel
+    private Ordering ordering;
+    // Path of variable whose value is the ordering key
+    private String orderingVariable;
+    // Max count of jobs per second, null if the rate isn't limited
+    private Double rateLimit;
+    // Max count of jobs with the same key per second, null if the rate of keys isn't limited
+    private Double keyRateLimit;
+    // Path of variable whose value is the key of rate limit
+    private String rateLimitVariable;
+    // Name of custom header whose value is the key of rate limit
+    private String rateLimitHeader;
+    // Max count of invocations of worker method per activation, null if the method isn't retried
+    private Integer retryMaxAttempts;
+    // Delay before the first retry of worker method
+    private Duration retryBackoff;
+    // Max delay between retries of worker method
+    private Duration retryMaxBackoff;
+    // Multiplier of the delay after every retry
+    private double retryMultiplier;
+    // Exceptions after which the method is retried, empty for any exception
+    private List<Class<? extends Throwable>> retryOn;
+    // Whether separate variables are extracted by one streaming pass over the document
+    private boolean streamVariables;
     // Исполнитель работы
     private transient JobHandler handler;
 
@@ -93,6 +143,30 @@ public class WorkerConfiguration implements Toggleable, Serializable {
         this.pollInterval = pollInterval;
     }
 
+    public Duration getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    public void setMaxPollInterval(Duration maxPollInterval) {
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    public double getPollBackoffMultiplier() {
+        return pollBackoffMultiplier;
+    }
+
+    public void setPollBackoffMultiplier(double pollBackoffMultiplier) {
+        this.pollBackoffMultiplier = pollBackoffMultiplier;
+    }
+
+    public int getPollPriority() {
+        return pollPriority;
+    }
+
+    public void setPollPriority(int pollPriority) {
+        this.pollPriority = pollPriority;
+    }
+
     public Duration getRequestTimeout() {
         return requestTimeout;
     }
@@ -124,4 +198,174 @@ public class WorkerConfiguration implements Toggleable, Serializable {
     public void setAutoComplete(boolean autoComplete) {
         this.autoComplete = autoComplete;
     }
+
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public void setDispatchMode(DispatchMode dispatchMode) {
+        this.dispatchMode = dispatchMode;
+    }
+
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public String getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(String executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return the max count of jobs in work, the least of max jobs to activate
+     *         and concurrency
+     */
+    public int getMaxJobsActive() {
+        return (concurrency == null)
+                ? maxJobsToActivate
+                : Math.min(maxJobsToActivate, concurrency);
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getBatchLinger() {
+        return batchLinger;
+    }
+
+    public void setBatchLinger(Duration batchLinger) {
+        this.batchLinger = batchLinger;
+    }
+
+    public String getRouteHeader() {
+        return routeHeader;
+    }
+
+    public void setRouteHeader(String routeHeader) {
+        this.routeHeader = routeHeader;
+    }
+
+    public String getRouteValue() {
+        return routeValue;
+    }
+
+    public void setRouteValue(String routeValue) {
+        this.routeValue = routeValue;
+    }
+
+    public Duration getMinRemainingTime() {
+        return minRemainingTime;
+    }
+
+    public void setMinRemainingTime(Duration minRemainingTime) {
+        this.minRemainingTime = minRemainingTime;
+    }
+
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    public void setOrdering(Ordering ordering) {
+        this.ordering = ordering;
+    }
+
+    public String getOrderingVariable() {
+        return orderingVariable;
+    }
+
+    public void setOrderingVariable(String orderingVariable) {
+        this.orderingVariable = orderingVariable;
+    }
+
+    public Double getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(Double rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public Double getKeyRateLimit() {
+        return keyRateLimit;
+    }
+
+    public void setKeyRateLimit(Double keyRateLimit) {
+        this.keyRateLimit = keyRateLimit;
+    }
+
+    public String getRateLimitVariable() {
+        return rateLimitVariable;
+    }
+
+    public void setRateLimitVariable(String rateLimitVariable) {
+        this.rateLimitVariable = rateLimitVariable;
+    }
+
+    public String getRateLimitHeader() {
+        return rateLimitHeader;
+    }
+
+    public void setRateLimitHeader(String rateLimitHeader) {
+        this.rateLimitHeader = rateLimitHeader;
+    }
+
+    public Integer getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public void setRetryMaxAttempts(Integer retryMaxAttempts) {
+        this.retryMaxAttempts = retryMaxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public Duration getRetryMaxBackoff() {
+        return retryMaxBackoff;
+    }
+
+    public void setRetryMaxBackoff(Duration retryMaxBackoff) {
+        this.retryMaxBackoff = retryMaxBackoff;
+    }
+
+    public double getRetryMultiplier() {
+        return retryMultiplier;
+    }
+
+    public void setRetryMultiplier(double retryMultiplier) {
+        this.retryMultiplier = retryMultiplier;
+    }
+
+    public List<Class<? extends Throwable>> getRetryOn() {
+        return retryOn;
+    }
+
+    public void setRetryOn(List<Class<? extends Throwable>> retryOn) {
+        this.retryOn = retryOn;
+    }
+
+    public boolean isStreamVariables() {
+        return streamVariables;
+    }
+
+    public void setStreamVariables(boolean streamVariables) {
+        this.streamVariables = streamVariables;
+    }
 }
@@ -1,9 +1,14 @@
 package io.micronaut.configuration.zeebe.core.configuration;
 
+import io.micronaut.configuration.zeebe.core.annotation.job.DispatchMode;
+import io.micronaut.configuration.zeebe.core.executor.QueueOrder;
+import io.micronaut.configuration.zeebe.core.executor.RejectionPolicy;
+import io.micronaut.configuration.zeebe.core.executor.WaitStrategy;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.scheduling.executor.ExecutorType;
 
 import java.time.Duration;
 import java.util.List;
@@ -33,9 +38,47 @@ public interface ZeebeConfiguration {
      */
     Optional<Boolean> isLazyConnection();
 
+    /**
+     * The dispatch mode of workers that don't define it in annotation.
+     *
+     * @return the default dispatch mode
+     * @see DispatchMode
+     */
+    Optional<DispatchMode> getDefaultDispatch();
+
     @Nullable
     SchemaInitConfiguration getInitSchemaConfiguration();
 
+    @Nullable
+    CompletionConfiguration getCompletionConfiguration();
+
+    @Nullable
+    WorkerExecutorConfiguration getExecutorConfiguration();
+
+    @Nullable
+    AdaptiveConcurrencyConfiguration getAdaptiveConcurrencyConfiguration();
+
+    @Nullable
+    PollBackoffConfiguration getPollBackoffConfiguration();
+
+    @Nullable
+    PollBudgetConfiguration getPollBudgetConfiguration();
+
+    @Nullable
+    RingBufferConfiguration getRingBufferConfiguration();
+
+    @Nullable
+    WatchdogConfiguration getWatchdogConfiguration();
+
+    @Nullable
+    CircuitBreakerConfiguration getCircuitBreakerConfiguration();
+
+    @Nullable
+    QuarantineConfiguration getQuarantineConfiguration();
+
+    @Nullable
+    DeduplicationConfiguration getDeduplicationConfiguration();
+
     /**
      * The clusterId when connecting to Camunda Cloud. Don't set this for a local
      * Zeebe Broker.
@@ -157,4 +200,346 @@ public interface ZeebeConfiguration {
 
         Optional<List<String>> getSchemas();
     }
+
+    /**
+     * Configuration of sending the results of jobs to the broker. If the command
+     * fails because the gateway is temporarily unavailable, it is retried with
+     * jittered exponential backoff until the deadline of the job.
+     */
+    @ConfigurationProperties("completion")
+    interface CompletionConfiguration {
+
+        /**
+         * @return the delay before the first retry, 100 milliseconds by default
+         */
+        Optional<Duration> getRetryMinBackoff();
+
+        /**
+         * @return the max delay between retries, 10 seconds by default
+         */
+        Optional<Duration> getRetryMaxBackoff();
+
+        /**
+         * @return the jitter factor of the delay, from 0 to 1, 0.5 by default
+         */
+        Optional<Double> getRetryJitter();
+    }
+
+    /**
+     * Configuration of the executor that runs offloaded workers and asynchronous
+     * commands.
+     *
+     * @see io.micronaut.configuration.zeebe.core.executor.WorkerExecutor
+     */
+    @ConfigurationProperties("executor")
+    interface WorkerExecutorConfiguration {
+
+        /**
+         * @return the type of executor, FIXED by default
+         */
+        Optional<ExecutorType> getType();
+
+        /**
+         * @return the count of threads that are kept in the pool, 16 by default
+         */
+        Optional<Integer> getCorePoolSize();
+
+        /**
+         * @return the max count of threads, equal to core pool size by default
+         */
+        Optional<Integer> getMaxPoolSize();
+
+        /**
+         * @return the max count of tasks that wait for a free thread, 1024 by
+         *         default, zero or negative value means unbounded queue
+         */
+        Optional<Integer> getQueueCapacity();
+
+        /**
+         * @return the time that idle threads above core pool size are kept, 60
+         *         seconds by default
+         */
+        Optional<Duration> getKeepAlive();
+
+        /**
+         * @return what happens to a task when the executor is full, CALLER_RUNS by
+         *         default
+         */
+        Optional<RejectionPolicy> getRejectionPolicy();
+
+        /**
+         * @return the order of tasks in the queue, FIFO by default
+         */
+        Optional<QueueOrder> getQueueOrder();
+
+        /**
+         * @return the min time that must remain before the deadline of a job to
+         *         start it, the job with less remaining time is failed back to the
+         *         broker with retries decreased by one, by default jobs are always
+         *         started
+         */
+        Optional<Duration> getMinRemainingTime();
+    }
+
+    /**
+     * Configuration of adaptive limit of active jobs of workers. If it is
+     * enabled, the limit of every worker is adapted by AIMD between the min
+     * limit and the max jobs active of the worker.
+     *
+     * @see io.micronaut.configuration.zeebe.core.poller.AdaptiveConcurrencyLimit
+     */
+    @ConfigurationProperties("adaptive-concurrency")
+    interface AdaptiveConcurrencyConfiguration {
+
+        Optional<Boolean> isEnabled();
+
+        /**
+         * @return the min limit, 1 by default
+         */
+        Optional<Integer> getMinLimit();
+
+        /**
+         * @return the limit at start, half of the max jobs active by default
+         */
+        Optional<Integer> getInitialLimit();
+
+        /**
+         * @return the ratio by which the limit is multiplied on decrease, 0.75 by
+         *         default
+         */
+        Optional<Double> getBackoffRatio();
+
+        /**
+         * @return the multiple of the average latency of jobs, above which the
+         *         latency is a spike, 2 by default
+         */
+        Optional<Double> getLatencyTolerance();
+    }
+
+    /**
+     * Configuration of polling of idle workers. While activations return no
+     * jobs, the poll interval of worker grows exponentially up to the max
+     * interval and falls back to the poll interval when jobs are returned.
+     *
+     * @see io.micronaut.configuration.zeebe.core.poller.PollBackoff
+     */
+    @ConfigurationProperties("poll-backoff")
+    interface PollBackoffConfiguration {
+
+        /**
+         * @return the max poll interval of idle workers, if it isn't set, the
+         *         interval doesn't grow
+         */
+        Optional<Duration> getMaxInterval();
+
+        /**
+         * @return the multiplier of poll interval after empty activation, 2 by
+         *         default
+         */
+        Optional<Double> getMultiplier();
+
+        /**
+         * If it is enabled, an idle worker polls again at once and the gateway
+         * holds the request for the poll interval, instead of waiting before the
+         * next request. It requires long polling enabled on the gateway.
+         *
+         * @return true if long polling is used
+         */
+        Optional<Boolean> isLongPolling();
+    }
+
+    /**
+     * Configuration of budget of activation requests that is shared by all
+     * workers. If it isn't set, the requests aren't limited.
+     *
+     * @see io.micronaut.configuration.zeebe.core.poller.PollBudget
+     */
+    @ConfigurationProperties("poll-budget")
+    interface PollBudgetConfiguration {
+
+        /**
+         * @return the max rate of activation requests of all workers
+         */
+        Optional<Double> getRequestsPerSecond();
+
+        /**
+         * @return the max count of requests that can be sent at once, equal to
+         *         requests per second by default
+         */
+        Optional<Integer> getBurst();
+    }
+
+    /**
+     * Configuration of ring buffer through which job workers hand over the
+     * activated jobs to the handler threads. If it isn't enabled, the jobs are
+     * handed over through the queue of the job worker executor.
+     *
+     * @see io.micronaut.configuration.zeebe.core.executor.RingBufferDispatcher
+     */
+    @ConfigurationProperties("ring-buffer")
+    interface RingBufferConfiguration {
+
+        Optional<Boolean> isEnabled();
+
+        /**
+         * @return the count of slots of the buffer, 1024 by default
+         */
+        Optional<Integer> getSize();
+
+        /**
+         * @return the count of consumer threads, equal to the count of job worker
+         *         threads by default
+         */
+        Optional<Integer> getConsumers();
+
+        /**
+         * @return how idle consumers wait for jobs, PARK by default
+         */
+        Optional<WaitStrategy> getWaitStrategy();
+    }
+
+    /**
+     * Configuration of watchdog of jobs in work. If it is enabled, the handler
+     * that is still running when the deadline of its job comes is cancelled,
+     * because its result would be rejected by the broker.
+     *
+     * @see io.micronaut.configuration.zeebe.core.handler.JobWatchdog
+     */
+    @ConfigurationProperties("watchdog")
+    interface WatchdogConfiguration {
+
+        Optional<Boolean> isEnabled();
+
+        /**
+         * @return the precision of the watchdog, 100 ms by default
+         */
+        Optional<Duration> getTickDuration();
+
+        /**
+         * @return the count of ticks of one turn of the wheel, 512 by default
+         */
+        Optional<Integer> getWheelSize();
+
+        /**
+         * @return the time before the deadline of job when its handler is
+         *         cancelled, 0 by default
+         */
+        Optional<Duration> getLeadTime();
+
+        /**
+         * @return true if the thread of overdue handler is interrupted, true by
+         *         default
+         */
+        Optional<Boolean> isInterrupt();
+
+        /**
+         * @return true if the overdue job is failed at once, instead of waiting
+         *         for the broker to time it out, false by default
+         */
+        Optional<Boolean> isFailOverdue();
+    }
+
+    /**
+     * Configuration of circuit breakers of workers. If it is enabled, a worker
+     * whose jobs fail stops activating jobs for the open duration.
+     *
+     * @see io.micronaut.configuration.zeebe.core.poller.CircuitBreaker
+     */
+    @ConfigurationProperties("circuit-breaker")
+    interface CircuitBreakerConfiguration {
+
+        Optional<Boolean> isEnabled();
+
+        /**
+         * @return the count of last jobs whose failure rate is measured, 20 by
+         *         default
+         */
+        Optional<Integer> getWindowSize();
+
+        /**
+         * @return the part of failed jobs, from 0 to 1, at which the breaker
+         *         opens, 0.5 by default
+         */
+        Optional<Double> getFailureRateThreshold();
+
+        /**
+         * @return the time for which the worker stops activating jobs, 30
+         *         seconds by default
+         */
+        Optional<Duration> getOpenDuration();
+
+        /**
+         * @return the count of jobs with which the half-open worker probes the
+         *         downstream, 1 by default
+         */
+        Optional<Integer> getHalfOpenJobs();
+    }
+
+    /**
+     * Configuration of quarantine of poison jobs. If it is enabled, a job whose
+     * failure is deterministic is failed without retries.
+     *
+     * @see io.micronaut.configuration.zeebe.core.handler.JobQuarantine
+     */
+    @ConfigurationProperties("quarantine")
+    interface QuarantineConfiguration {
+
+        Optional<Boolean> isEnabled();
+
+        /**
+         * @return the class names of exceptions that are deterministic failures,
+         *         in addition to binding and deserialization errors
+         */
+        Optional<List<String>> getDeterministicExceptions();
+
+        /**
+         * @return the class names of exceptions that are never quarantined, in
+         *         addition to connection errors and timeouts
+         */
+        Optional<List<String>> getTransientExceptions();
+
+        /**
+         * @return the count of different jobs that must fail with the same
+         *         error to quarantine the error, 3 by default, 0 to quarantine
+         *         only the deterministic failures
+         */
+        Optional<Integer> getRepeatThreshold();
+
+        /**
+         * @return the time from the first failure with an error for which the
+         *         failed jobs are counted and the error stays quarantined, 10
+         *         minutes by default
+         */
+        Optional<Duration> getWindow();
+
+        /**
+         * @return the max count of errors per worker that are kept, 1024 by
+         *         default
+         */
+        Optional<Integer> getCacheSize();
+    }
+
+    /**
+     * Configuration of the cache of completed jobs. If it is enabled, a job that
+     * is activated again after its completion is completed from the cache,
+     * without invoking the worker method.
+     *
+     * @see io.micronaut.configuration.zeebe.core.handler.CompletedJobCache
+     */
+    @ConfigurationProperties("deduplication")
+    interface DeduplicationConfiguration {
+
+        Optional<Boolean> isEnabled();
+
+        /**
+         * @return the time for which the completion of job is kept, 10 minutes
+         *         by default
+         */
+        Optional<Duration> getTtl();
+
+        /**
+         * @return the max count of completed jobs per worker, 10000 by default
+         */
+        Optional<Integer> getMaxSize();
+    }
 }
@@ -0,0 +1,51 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Task of a job that is ordered by the deadline of the job in the queue of the
+ * executor. The tasks with the same deadline are ordered by submission.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class DeadlineTask implements Runnable, Comparable<DeadlineTask> {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private final long deadline;
+    private final long sequence;
+    private final Runnable task;
+
+    private DeadlineTask(long deadline, Runnable task) {
+        this.deadline = deadline;
+        this.sequence = SEQUENCE.getAndIncrement();
+        this.task = task;
+    }
+
+    /**
+     * @param deadline Deadline of the job in epoch millis, {@link Long#MAX_VALUE}
+     *                 for tasks without deadline
+     * @param task     Task
+     * @return Task ordered by the deadline
+     */
+    public static DeadlineTask of(long deadline, Runnable task) {
+        return new DeadlineTask(deadline, task);
+    }
+
+    public long getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public void run() {
+        task.run();
+    }
+
+    @Override
+    public int compareTo(DeadlineTask other) {
+        final int byDeadline = Long.compare(deadline, other.deadline);
+        return (byDeadline != 0)
+                ? byDeadline
+                : Long.compare(sequence, other.sequence);
+    }
+}
@@ -0,0 +1,261 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timer for a large count of timeouts that are mostly cancelled before they
+ * expire, e.g. one timeout per job in work. The timeouts are kept in the
+ * buckets of a wheel, one bucket per tick, a timeout that is more than one
+ * turn away waits for the count of its remaining rounds. Scheduling and
+ * cancelling a timeout costs O(1): the caller only puts it to a lock-free
+ * queue, and the thread of timer moves it to its bucket or unlinks it on the
+ * next tick. The price is the precision: a timeout expires on the first tick
+ * after its delay.
+ * <p>
+ * The tasks of expired timeouts are run on the thread of timer, so they must be
+ * short and must not block.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+    public static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+    // Max count of new timeouts that are moved to the wheel per tick, so a burst doesn't delay the tick
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+    // Accessed only by the thread of timer
+    private long tick;
+
+    /**
+     * @param threadName Name of the thread of timer
+     * @param tick       Duration of one tick, the precision of timer
+     * @param wheelSize  Min count of buckets, it is rounded up to a power of two
+     */
+    public HashedWheelTimer(String threadName, Duration tick, int wheelSize) {
+        this.tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), tick.toNanos());
+        final int size = (wheelSize <= 1)
+                ? 1
+                : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedule the task to run once after the delay.
+     *
+     * @param task  Short non-blocking task
+     * @param delay Delay of the task, a task with negative delay runs on the next tick
+     * @param unit  Unit of the delay
+     * @return Timeout that can be cancelled
+     * @throws RejectedExecutionException if the timer is closed
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running)
+            throw new RejectedExecutionException("Timer is closed");
+        final Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay)));
+        pendingCount.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return the count of timeouts that are neither expired nor cancelled
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Stop the timer, the pending timeouts never expire.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick())
+                break;
+            unlinkCancelled();
+            transferScheduled();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+        scheduled.clear();
+        cancelled.clear();
+    }
+
+    private boolean waitForNextTick() {
+        final long deadline = tickNanos * (tick + 1);
+        while (true) {
+            final long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0)
+                return true;
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running)
+                    return false;
+            }
+        }
+    }
+
+    private void unlinkCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null)
+                timeout.bucket.remove(timeout);
+        }
+    }
+
+    private void transferScheduled() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            final Timeout timeout = scheduled.poll();
+            if (timeout == null)
+                return;
+            if (timeout.state.get() != Timeout.PENDING)
+                continue;
+            final long expirationTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+            // A timeout that is already due expires on the current tick
+            wheel[(int) (Math.max(expirationTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Scheduled task that can be cancelled until it expires.
+     */
+    public final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        // Links of the bucket, accessed only by the thread of timer
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cancel the timeout.
+         *
+         * @return true if the timeout is cancelled, false if it has already
+         *         expired or been cancelled
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED))
+                return false;
+            pendingCount.decrementAndGet();
+            cancelled.add(this);
+            return true;
+        }
+
+        /**
+         * @return true if the task of timeout has been run
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED))
+                return;
+            pendingCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                logger.warn("expire() >> Task of timeout failed, because: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts of one tick of the wheel, it is accessed
+     * only by the thread of timer.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+            }
+            tail = timeout;
+        }
+
+        private void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.state.get() == Timeout.CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this)
+                return;
+            final Timeout next = timeout.next;
+            if (timeout.previous != null)
+                timeout.previous.next = next;
+            if (next != null)
+                next.previous = timeout.previous;
+            if (timeout == head)
+                head = next;
+            if (timeout == tail)
+                tail = timeout.previous;
+            timeout.previous = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+/**
+ * Defines the order in which the tasks wait in the queue of the executor.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public enum QueueOrder {
+
+    /**
+     * Tasks are taken in the order in which they are submitted.
+     */
+    FIFO,
+
+    /**
+     * Jobs are taken in the order of their deadlines, the job that expires first
+     * is started first. Other tasks wait after the jobs in the order in which
+     * they are submitted. It is supported by {@code FIXED} executor.
+     */
+    DEADLINE
+}
@@ -0,0 +1,27 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+/**
+ * Defines what happens to a task when the queue of the executor is full.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Throw {@link java.util.concurrent.RejectedExecutionException}. The
+     * offloaded worker method isn't invoked, the job is failed like on an error
+     * of the method, so its retries are decreased, and its slot is released at
+     * once.
+     */
+    ABORT,
+
+    /**
+     * Run the task on the thread that submits it. For an offloaded worker it is
+     * the thread of job worker, which is shared by all workers of the module:
+     * while the method runs on it, no worker polls or starts jobs, and a
+     * blocking method blocks them all. For an asynchronous command it is the
+     * thread of the caller.
+     */
+    CALLER_RUNS
+}
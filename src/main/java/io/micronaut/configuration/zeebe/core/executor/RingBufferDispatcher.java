@@ -0,0 +1,209 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands over jobs from the threads of job workers to a fixed set of consumer
+ * threads through a pre-allocated ring buffer. Every slot of the buffer has a
+ * sequence number that tells whether the slot is free for the producer or
+ * published for the consumers, so the tasks are passed without locks and
+ * without allocation of queue nodes. Producers and consumers claim the slots
+ * by CAS; a job worker publishes the jobs of one activation from one thread,
+ * so the claim is rarely contended.
+ * <p>
+ * An idle consumer waits for the next task by the {@link WaitStrategy wait
+ * strategy}. When the buffer is full, the task is run by the thread that
+ * submits it.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class RingBufferDispatcher implements Executor, AutoCloseable {
+
+    public static final int DEFAULT_SIZE = 1024;
+    private static final Logger logger = LoggerFactory.getLogger(RingBufferDispatcher.class);
+    private static final String THREAD_PREFIX = "zeebe-ring-";
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+    private final int mask;
+    private final AtomicReferenceArray<Runnable> tasks;
+    // Sequence of slot: equal to position if the slot is free, position + 1 if it is published
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final WaitStrategy waitStrategy;
+    private final Thread[] consumers;
+    private final AtomicInteger sleepers = new AtomicInteger();
+    private final AtomicInteger nextWakeUp = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+    private volatile boolean running = true;
+
+    /**
+     * @param size          Min count of slots, it is rounded up to a power of two
+     * @param consumerCount Count of consumer threads
+     * @param waitStrategy  How idle consumers wait
+     */
+    public RingBufferDispatcher(int size, int consumerCount, WaitStrategy waitStrategy) {
+        final int capacity = (size <= 1)
+                ? 1
+                : Integer.highestOneBit(size - 1) << 1;
+        this.mask = capacity - 1;
+        this.tasks = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.waitStrategy = waitStrategy;
+        this.consumers = new Thread[Math.max(1, consumerCount)];
+        for (int i = 0; i < consumers.length; i++) {
+            consumers[i] = new Thread(this::consume, THREAD_PREFIX + (i + 1));
+            consumers[i].setDaemon(true);
+            consumers[i].start();
+        }
+    }
+
+    /**
+     * Publish the task to the buffer, if the buffer is full, run it on the
+     * calling thread.
+     *
+     * @throws RejectedExecutionException if the dispatcher is closed
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (!running)
+            throw new RejectedExecutionException("Ring buffer dispatcher is closed");
+        if (offer(task)) {
+            wakeUp();
+            return;
+        }
+        rejectedCount.increment();
+        task.run();
+    }
+
+    private boolean offer(Runnable task) {
+        long position = tail.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    tasks.lazySet(index, task);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private Runnable poll() {
+        long position = head.get();
+        while (true) {
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    final Runnable task = tasks.get(index);
+                    tasks.lazySet(index, null);
+                    sequences.lazySet(index, position + mask + 1);
+                    return task;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    private void consume() {
+        int idle = 0;
+        while (running || !isEmpty()) {
+            final Runnable task = poll();
+            if (task != null) {
+                idle = 0;
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    logger.error("consume() >> Task failed, because: {}", e.getMessage(), e);
+                }
+                continue;
+            }
+            idle = waitForTask(idle);
+        }
+    }
+
+    private int waitForTask(int idle) {
+        if (waitStrategy == WaitStrategy.BUSY_SPIN || idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELD || idle < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            sleepers.incrementAndGet();
+            // The task could be published before the consumer is counted as sleeper
+            if (isEmpty() && running)
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+            sleepers.decrementAndGet();
+            return idle;
+        }
+        return idle + 1;
+    }
+
+    private void wakeUp() {
+        if (sleepers.get() > 0)
+            LockSupport.unpark(consumers[(nextWakeUp.getAndIncrement() & Integer.MAX_VALUE) % consumers.length]);
+    }
+
+    private boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * @return the count of slots of the buffer
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return the count of tasks that wait in the buffer
+     */
+    public int getSize() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * @return the count of tasks that were run by the caller because the buffer
+     *         was full
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Stop accepting tasks, the consumers finish the published tasks and stop.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (Thread consumer : consumers) {
+            LockSupport.unpark(consumer);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs tasks with the same key one after another, and tasks with different keys
+ * in parallel. The key is hashed to one of the stripes, a stripe starts its
+ * next task only when the future of the previous task is completed, so a task
+ * can be asynchronous. The stripes are lock-free: a task is put in the queue of
+ * its stripe, and the thread that activates the stripe runs the queued tasks
+ * until the queue is empty or a task is not completed synchronously. Tasks of
+ * different keys that fall in one stripe are also run serially, so there are
+ * several times more stripes than tasks in work.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class StripedExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StripedExecutor.class);
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private final Stripe[] stripes;
+    private final int mask;
+
+    /**
+     * @param minStripes Min count of stripes, it is rounded up to a power of two
+     */
+    public StripedExecutor(int minStripes) {
+        final int count = (minStripes <= 1)
+                ? 1
+                : Integer.highestOneBit(minStripes - 1) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = count - 1;
+    }
+
+    /**
+     * Run the task after all previously submitted tasks of the key are finished.
+     *
+     * @param key  Ordering key
+     * @param task Task that starts the work and returns its future
+     * @param <T>  Type of result
+     * @return Future of the result of task
+     */
+    public <T> CompletableFuture<T> submit(long key, Supplier<CompletableFuture<T>> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final Stripe stripe = stripes[index(key)];
+        stripe.queue.offer(() -> {
+            CompletableFuture<T> started;
+            try {
+                started = task.get();
+            } catch (RuntimeException e) {
+                logger.error("submit() >> Task of key: {} failed, because: {}", key, e.getMessage());
+                started = CompletableFuture.failedFuture(e);
+            }
+            started.whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            });
+            return started;
+        });
+        drain(stripe);
+        return result;
+    }
+
+    /**
+     * @return the count of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    private int index(long key) {
+        final long hash = key * GOLDEN_GAMMA;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void drain(Stripe stripe) {
+        while (stripe.active.compareAndSet(false, true)) {
+            final Supplier<CompletableFuture<?>> task = stripe.queue.poll();
+            if (task == null) {
+                stripe.active.set(false);
+                // A task could be queued after the poll but before the stripe is released
+                if (stripe.queue.isEmpty())
+                    return;
+                continue;
+            }
+            final CompletableFuture<?> finished = task.get();
+            if (!finished.isDone()) {
+                finished.whenComplete((value, throwable) -> {
+                    stripe.active.set(false);
+                    drain(stripe);
+                });
+                return;
+            }
+            stripe.active.set(false);
+        }
+    }
+
+    private static final class Stripe {
+
+        private final Queue<Supplier<CompletableFuture<?>>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean active = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,37 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Factory of executors that run every task on a new virtual thread. Virtual
+ * threads are available since Java 21, the module is delivered as a
+ * multi-release jar and this implementation is used on older versions of Java,
+ * where virtual threads aren't supported. The implementation for Java 21 is
+ * located in {@code src/main/java21}.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class VirtualThreadExecutors {
+
+    private VirtualThreadExecutors() {
+    }
+
+    /**
+     * @return true if the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Create executor that starts a new virtual thread for every task.
+     *
+     * @param namePrefix Prefix of names of threads
+     * @return Executor or empty if virtual threads aren't supported
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(String namePrefix) {
+        return Optional.empty();
+    }
+}
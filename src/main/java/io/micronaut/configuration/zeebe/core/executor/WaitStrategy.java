@@ -0,0 +1,28 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+/**
+ * Defines how a consumer thread of the ring buffer waits for the next job.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spin on the buffer, the lowest latency of handoff, but every consumer
+     * thread takes a whole core.
+     */
+    BUSY_SPIN,
+
+    /**
+     * Spin for a while, then yield the core to other threads between checks.
+     */
+    YIELD,
+
+    /**
+     * Spin and yield for a while, then park until a job is published. It adds
+     * the latency of unpark to the handoff after an idle period, but idle
+     * consumers don't use the CPU.
+     */
+    PARK
+}
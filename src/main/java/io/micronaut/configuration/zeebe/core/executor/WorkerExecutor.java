@@ -0,0 +1,273 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.scheduling.executor.ExecutorType;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Executor of the module with saturation metrics. It runs offloaded workers
+ * and asynchronous commands of Zeebe clients. The executor is configured by
+ * {@code zeebe.executor.*} properties:
+ * <ul>
+ * <li>{@code FIXED} - pool of {@code core-pool-size} threads with a queue of
+ * {@code queue-capacity} tasks, the default type</li>
+ * <li>{@code CACHED} - pool of up to {@code max-pool-size} threads without a
+ * queue</li>
+ * <li>{@code WORK_STEALING} - fork join pool with parallelism
+ * {@code core-pool-size}, the queue isn't bounded</li>
+ * <li>{@code SCHEDULED} - scheduled pool of {@code core-pool-size} threads,
+ * the queue isn't bounded</li>
+ * </ul>
+ * When the queue is full, the task is handled by the
+ * {@link RejectionPolicy rejection policy}. The queue of {@code FIXED}
+ * executor can be ordered by the deadlines of jobs, see {@link QueueOrder}.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class WorkerExecutor implements AutoCloseable {
+
+    public static final int DEFAULT_POOL_SIZE = 16;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(60);
+    private static final String THREAD_PREFIX = "zeebe-executor-";
+
+    private final ExecutorType type;
+    private final QueueOrder queueOrder;
+    private final ExecutorService executorService;
+    private final LongAdder rejectedCount;
+
+    private WorkerExecutor(ExecutorType type, ExecutorService executorService, LongAdder rejectedCount) {
+        this(type, QueueOrder.FIFO, executorService, rejectedCount);
+    }
+
+    private WorkerExecutor(ExecutorType type, QueueOrder queueOrder, ExecutorService executorService,
+                           LongAdder rejectedCount) {
+        this.type = type;
+        this.queueOrder = queueOrder;
+        this.executorService = executorService;
+        this.rejectedCount = rejectedCount;
+    }
+
+    /**
+     * Create executor from configuration.
+     *
+     * @param configuration Configuration of executor, can be null
+     * @return Executor
+     * @throws ConfigurationException if the configuration is invalid
+     */
+    public static WorkerExecutor create(@Nullable ZeebeConfiguration.WorkerExecutorConfiguration configuration) {
+        final Optional<ZeebeConfiguration.WorkerExecutorConfiguration> maybeConfiguration = Optional
+                .ofNullable(configuration);
+        final ExecutorType type = maybeConfiguration
+                .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getType)
+                .orElse(ExecutorType.FIXED);
+        final int corePoolSize = maybeConfiguration
+                .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getCorePoolSize)
+                .orElse(DEFAULT_POOL_SIZE);
+        final int maxPoolSize = maybeConfiguration
+                .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getMaxPoolSize)
+                .orElse(corePoolSize);
+        final int queueCapacity = maybeConfiguration
+                .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getQueueCapacity)
+                .orElse(DEFAULT_QUEUE_CAPACITY);
+        final Duration keepAlive = maybeConfiguration
+                .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getKeepAlive)
+                .orElse(DEFAULT_KEEP_ALIVE);
+        final RejectionPolicy rejectionPolicy = maybeConfiguration
+                .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getRejectionPolicy)
+                .orElse(RejectionPolicy.CALLER_RUNS);
+        final QueueOrder queueOrder = maybeConfiguration
+                .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getQueueOrder)
+                .orElse(QueueOrder.FIFO);
+        if (corePoolSize < 1 || maxPoolSize < corePoolSize)
+            throw new ConfigurationException(String.format(
+                    "Invalid size of zeebe executor, core: %s, max: %s", corePoolSize, maxPoolSize));
+        if (queueOrder == QueueOrder.DEADLINE && type != ExecutorType.FIXED)
+            throw new ConfigurationException(String.format(
+                    "Deadline order of queue isn't supported by zeebe executor of type: %s", type));
+
+        final LongAdder rejectedCount = new LongAdder();
+        final RejectedExecutionHandler rejectionHandler = countRejections(getHandler(rejectionPolicy), rejectedCount);
+        final ThreadFactory threadFactory = newThreadFactory();
+        switch (type) {
+            case WORK_STEALING:
+                return new WorkerExecutor(type, new ForkJoinPool(corePoolSize,
+                        ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true), rejectedCount);
+            case SCHEDULED:
+                return new WorkerExecutor(type,
+                        new ScheduledThreadPoolExecutor(corePoolSize, threadFactory, rejectionHandler), rejectedCount);
+            case CACHED:
+                return new WorkerExecutor(type, new ThreadPoolExecutor(0, maxPoolSize, keepAlive.toMillis(),
+                        TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory, rejectionHandler),
+                        rejectedCount);
+            default:
+                if (queueOrder == QueueOrder.DEADLINE)
+                    return new WorkerExecutor(type, queueOrder, new DeadlineThreadPoolExecutor(corePoolSize,
+                            maxPoolSize, keepAlive, new DeadlineQueue(queueCapacity), threadFactory,
+                            rejectionHandler), rejectedCount);
+                final BlockingQueue<Runnable> queue = (queueCapacity > 0)
+                        ? new ArrayBlockingQueue<>(queueCapacity)
+                        : new LinkedBlockingQueue<>();
+                return new WorkerExecutor(type, new ThreadPoolExecutor(corePoolSize, maxPoolSize,
+                        keepAlive.toMillis(), TimeUnit.MILLISECONDS, queue, threadFactory, rejectionHandler),
+                        rejectedCount);
+        }
+    }
+
+    private static RejectedExecutionHandler getHandler(RejectionPolicy rejectionPolicy) {
+        switch (rejectionPolicy) {
+            case ABORT:
+                return new ThreadPoolExecutor.AbortPolicy();
+            default:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    }
+
+    private static RejectedExecutionHandler countRejections(RejectedExecutionHandler handler, LongAdder counter) {
+        return (task, executor) -> {
+            counter.increment();
+            handler.rejectedExecution(task, executor);
+        };
+    }
+
+    private static ThreadFactory newThreadFactory() {
+        final AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            final Thread thread = new Thread(task, THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public ExecutorType getType() {
+        return type;
+    }
+
+    public QueueOrder getQueueOrder() {
+        return queueOrder;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * @return the count of tasks that wait for a free thread
+     */
+    public int getQueueDepth() {
+        if (executorService instanceof ForkJoinPool) {
+            final ForkJoinPool pool = (ForkJoinPool) executorService;
+            return (int) Math.min(Integer.MAX_VALUE, pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount());
+        }
+        return ((ThreadPoolExecutor) executorService).getQueue().size();
+    }
+
+    /**
+     * @return the count of threads that execute tasks
+     */
+    public int getActiveCount() {
+        if (executorService instanceof ForkJoinPool)
+            return ((ForkJoinPool) executorService).getActiveThreadCount();
+        return ((ThreadPoolExecutor) executorService).getActiveCount();
+    }
+
+    /**
+     * @return the count of threads in the pool
+     */
+    public int getPoolSize() {
+        if (executorService instanceof ForkJoinPool)
+            return ((ForkJoinPool) executorService).getPoolSize();
+        return ((ThreadPoolExecutor) executorService).getPoolSize();
+    }
+
+    /**
+     * @return the count of tasks that were rejected because the executor was
+     *         full, including the tasks that were run by the caller
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Probe of saturation for one observer. The executor is saturated if more
+     * tasks wait in the queue than there are threads, or tasks were rejected
+     * since the previous check of the same probe, so every observer sees the
+     * rejections regardless of the others.
+     *
+     * @return Supplier that returns true if the executor is saturated
+     */
+    public BooleanSupplier saturationProbe() {
+        final AtomicLong observedRejectedCount = new AtomicLong(getRejectedCount());
+        return () -> {
+            final long rejected = getRejectedCount();
+            final long observed = observedRejectedCount.getAndSet(rejected);
+            return rejected > observed || getQueueDepth() > Math.max(1, getPoolSize());
+        };
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Pool that orders the queue by deadlines, the tasks without deadline are
+     * queued after all jobs.
+     */
+    private static final class DeadlineThreadPoolExecutor extends ThreadPoolExecutor {
+
+        private DeadlineThreadPoolExecutor(int corePoolSize, int maxPoolSize, Duration keepAlive,
+                                           BlockingQueue<Runnable> queue, ThreadFactory threadFactory,
+                                           RejectedExecutionHandler rejectionHandler) {
+            super(corePoolSize, maxPoolSize, keepAlive.toMillis(), TimeUnit.MILLISECONDS, queue, threadFactory,
+                    rejectionHandler);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            super.execute((command instanceof DeadlineTask)
+                    ? command
+                    : DeadlineTask.of(Long.MAX_VALUE, command));
+        }
+    }
+
+    /**
+     * Priority queue that accepts no more than capacity tasks, so the executor
+     * applies the rejection policy when it is full.
+     */
+    private static final class DeadlineQueue extends PriorityBlockingQueue<Runnable> {
+
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+
+        private DeadlineQueue(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public boolean offer(Runnable task) {
+            return (capacity <= 0 || size() < capacity) && super.offer(task);
+        }
+    }
+}
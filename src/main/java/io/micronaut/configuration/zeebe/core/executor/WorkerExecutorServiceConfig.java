@@ -10,14 +10,15 @@
  */
 package io.micronaut.configuration.zeebe.core.executor;
 
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
-import io.micronaut.scheduling.executor.ExecutorConfiguration;
-import io.micronaut.scheduling.executor.ExecutorType;
-import io.micronaut.scheduling.executor.UserExecutorConfiguration;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Executor pool configuration
  *
@@ -30,12 +31,26 @@ public class WorkerExecutorServiceConfig {
     public static final String ZEEBE = "zeebe";
 
     /**
-     * @return The executor configurations
+     * @param configuration Configuration of module, absent if the module is
+     *                      disabled
+     * @return The executor of module with its metrics
+     */
+    @Singleton
+    @Bean(preDestroy = "close")
+    WorkerExecutor workerExecutor(@Nullable ZeebeConfiguration configuration) {
+        return WorkerExecutor.create((configuration == null)
+                ? null
+                : configuration.getExecutorConfiguration());
+    }
+
+    /**
+     * @param workerExecutor The executor of module
+     * @return The executor service
      */
     @Singleton
     @Bean
     @Named(ZEEBE)
-    ExecutorConfiguration configuration() {
-        return UserExecutorConfiguration.of(ExecutorType.SCHEDULED, 16);
+    ExecutorService executorService(WorkerExecutor workerExecutor) {
+        return workerExecutor.getExecutorService();
     }
 }
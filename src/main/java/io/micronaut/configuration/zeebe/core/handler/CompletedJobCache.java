@@ -0,0 +1,189 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Recently completed jobs of a worker with the variables of their completion.
+ * When a completion is lost or comes after the deadline, the broker activates
+ * the job again; such a job is answered by the cached completion instead of
+ * invoking the worker method a second time.
+ * <p>
+ * The keys of jobs are kept in an open-addressing hash table of primitive
+ * longs with linear probing, the cache doesn't allocate on lookup or insert.
+ * Every entry expires after the time to live. As it is the same for all the
+ * entries, the entries expire in the order of insertion, so a ring of inserted
+ * keys gives the oldest entry at once: the expired entries are removed from
+ * its head, and the oldest entry is evicted when the cache is full.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class CompletedJobCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final int mask;
+    private final long origin = System.nanoTime();
+    // Hash table, the slot is free if its expiration time is 0
+    private final long[] keys;
+    private final long[] expiresAt;
+    private final Map<String, Object>[] variables;
+    // Ring of keys in the order of insertion
+    private final long[] insertedKeys;
+    private int head;
+    private int size;
+    private long hitCount;
+
+    /**
+     * @param ttl     Time for which the completion of job is kept
+     * @param maxSize Max count of jobs in the cache
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CompletedJobCache(Duration ttl, int maxSize) {
+        this.ttlNanos = Math.max(1, ttl.toNanos());
+        this.maxSize = Math.max(1, maxSize);
+        // Load factor is at most 0.5, so probe sequences stay short
+        final int capacity = Integer.highestOneBit(this.maxSize * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.keys = new long[capacity];
+        this.expiresAt = new long[capacity];
+        this.variables = new Map[capacity];
+        this.insertedKeys = new long[this.maxSize];
+    }
+
+    /**
+     * Remember the completion of job.
+     *
+     * @param jobKey    Key of job
+     * @param variables Variables with which the job is completed, null if it is
+     *                  completed without variables
+     */
+    public synchronized void put(long jobKey, @Nullable Map<String, Object> variables) {
+        final long now = now();
+        removeExpired(now);
+        int slot = index(jobKey);
+        while (expiresAt[slot] != 0) {
+            if (keys[slot] == jobKey)
+                return;
+            slot = (slot + 1) & mask;
+        }
+        if (size == maxSize) {
+            remove(insertedKeys[head]);
+            head = (head + 1) % maxSize;
+            size--;
+            // The removal shifts the entries back, so the free slot is searched again
+            slot = index(jobKey);
+            while (expiresAt[slot] != 0)
+                slot = (slot + 1) & mask;
+        }
+        keys[slot] = jobKey;
+        expiresAt[slot] = now + ttlNanos;
+        this.variables[slot] = (variables == null) ? Map.of() : variables;
+        insertedKeys[(head + size) % maxSize] = jobKey;
+        size++;
+    }
+
+    /**
+     * @param jobKey Key of job
+     * @return Variables with which the job is completed, empty if it is
+     *         completed without variables, null if the job isn't in the cache
+     *         or its completion is expired
+     */
+    @Nullable
+    public synchronized Map<String, Object> getVariables(long jobKey) {
+        final int slot = find(jobKey);
+        if (slot < 0)
+            return null;
+        hitCount++;
+        return variables[slot];
+    }
+
+    /**
+     * @return the count of jobs in the cache, including the expired ones that
+     *         aren't removed yet
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the count of activations that were answered from the cache
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    private int find(long jobKey) {
+        int slot = index(jobKey);
+        while (expiresAt[slot] != 0) {
+            if (keys[slot] == jobKey)
+                return (expiresAt[slot] - now() > 0) ? slot : -1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeExpired(long now) {
+        while (size > 0) {
+            final long key = insertedKeys[head];
+            final int slot = indexOf(key);
+            if (expiresAt[slot] - now > 0)
+                return;
+            delete(slot);
+            head = (head + 1) % maxSize;
+            size--;
+        }
+    }
+
+    private void remove(long jobKey) {
+        delete(indexOf(jobKey));
+    }
+
+    /**
+     * @return the slot of the key, the key must be in the table
+     */
+    private int indexOf(long jobKey) {
+        int slot = index(jobKey);
+        while (keys[slot] != jobKey || expiresAt[slot] == 0)
+            slot = (slot + 1) & mask;
+        return slot;
+    }
+
+    /**
+     * Free the slot and shift back the following entries of its probe
+     * sequence, so no entry becomes unreachable.
+     */
+    private void delete(int slot) {
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (expiresAt[next] != 0) {
+            final int home = index(keys[next]);
+            // Move the entry if the free slot lies between its home slot and its slot
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                expiresAt[free] = expiresAt[next];
+                variables[free] = variables[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        expiresAt[free] = 0;
+        variables[free] = null;
+    }
+
+    private int index(long jobKey) {
+        long hash = jobKey * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+
+    /**
+     * @return the current time, it is never 0, so 0 can mark a free slot
+     */
+    private long now() {
+        return System.nanoTime() - origin + 1;
+    }
+}
@@ -0,0 +1,63 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+
+import java.util.List;
+
+/**
+ * Classifier of failures of jobs for the quarantine of poison jobs. A bean of
+ * this type is asked before the classifiers from configuration, the first
+ * classifier that knows the failure decides.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ * @see JobQuarantine
+ */
+@FunctionalInterface
+public interface FailureClassifier {
+
+    /**
+     * Kind of failure
+     */
+    enum Kind {
+        // The job fails with the same error on every attempt, it is failed without retries
+        DETERMINISTIC,
+        // The job can succeed on the next attempt, it is never quarantined
+        TRANSIENT,
+        // The classifier doesn't know the failure
+        UNKNOWN
+    }
+
+    /**
+     * @param job   Failed job
+     * @param cause Error of the worker method
+     * @return the kind of failure
+     */
+    Kind classify(ActivatedJob job, Throwable cause);
+
+    /**
+     * Classifier by the types of exceptions, the whole chain of causes is
+     * checked, the deterministic types first.
+     *
+     * @param deterministic Exceptions that are deterministic failures
+     * @param transients    Exceptions that are transient failures
+     * @return Classifier
+     */
+    static FailureClassifier of(List<Class<?>> deterministic, List<Class<?>> transients) {
+        return (job, cause) -> {
+            for (Throwable throwable = cause; throwable != null; throwable = throwable.getCause()) {
+                for (Class<?> type : deterministic) {
+                    if (type.isInstance(throwable))
+                        return Kind.DETERMINISTIC;
+                }
+                for (Class<?> type : transients) {
+                    if (type.isInstance(throwable))
+                        return Kind.TRANSIENT;
+                }
+                if (throwable.getCause() == throwable)
+                    break;
+            }
+            return Kind.UNKNOWN;
+        };
+    }
+}
@@ -0,0 +1,259 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.command.FinalCommandStep;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.grpc.Status;
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sends the result of a job to the broker without waiting for the response.
+ * The count of commands that are sent but not yet acknowledged is limited by
+ * the completion window of the worker. If the window is full, the command is
+ * queued and sent when an acknowledged command frees its slot, so the calling
+ * thread never waits for the broker.
+ * <p>
+ * If the command fails because the gateway is temporarily unavailable, it is
+ * retried with jittered exponential backoff. Retries take the current client of
+ * the connection, so the result survives reconnection to the cluster. The
+ * result is held until the deadline of the job, after that the job can be
+ * activated by another worker and the result is dropped.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class JobCompletionDispatcher {
+
+    public static final Duration DEFAULT_MIN_BACKOFF = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(10);
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private static final Logger logger = LoggerFactory.getLogger(JobCompletionDispatcher.class);
+    // Status codes of failures after which the command can be sent again
+    private static final Set<Status.Code> TRANSIENT_CODES = Set.of(
+            Status.Code.UNAVAILABLE,
+            Status.Code.RESOURCE_EXHAUSTED,
+            Status.Code.DEADLINE_EXCEEDED);
+    private final String type;
+    private final int windowSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Commands that wait for a free slot of the window
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final Supplier<Optional<? extends JobClient>> clientSupplier;
+    private final RetryBackoffSpec retry;
+
+    /**
+     * @param type       Type of worker
+     * @param windowSize Max count of commands in flight
+     */
+    public JobCompletionDispatcher(String type, int windowSize) {
+        this(type, windowSize, Optional::empty, DEFAULT_MIN_BACKOFF, DEFAULT_MAX_BACKOFF, DEFAULT_JITTER);
+    }
+
+    /**
+     * @param type           Type of worker
+     * @param windowSize     Max count of commands in flight
+     * @param clientSupplier Supplier of current client of the connection, it is
+     *                       used to retry the command
+     * @param minBackoff     Delay before the first retry
+     * @param maxBackoff     Max delay between retries
+     * @param jitter         Jitter factor of the delay, from 0 to 1
+     */
+    public JobCompletionDispatcher(String type, int windowSize,
+                                   Supplier<Optional<? extends JobClient>> clientSupplier,
+                                   Duration minBackoff, Duration maxBackoff, double jitter) {
+        this.type = type;
+        this.windowSize = Math.max(1, windowSize);
+        this.clientSupplier = clientSupplier;
+        this.retry = Retry.backoff(Long.MAX_VALUE, minBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(jitter);
+    }
+
+    /**
+     * Create dispatcher with retry backoff from configuration.
+     *
+     * @param type           Type of worker
+     * @param windowSize     Max count of commands in flight
+     * @param clientSupplier Supplier of current client of the connection
+     * @param configuration  Configuration of completion, can be null
+     * @return Dispatcher
+     */
+    public static JobCompletionDispatcher create(String type, int windowSize,
+                                                 Supplier<Optional<? extends JobClient>> clientSupplier,
+                                                 @Nullable ZeebeConfiguration.CompletionConfiguration configuration) {
+        final Optional<ZeebeConfiguration.CompletionConfiguration> completion = Optional.ofNullable(configuration);
+        return new JobCompletionDispatcher(type, windowSize, clientSupplier,
+                completion.flatMap(ZeebeConfiguration.CompletionConfiguration::getRetryMinBackoff)
+                        .orElse(DEFAULT_MIN_BACKOFF),
+                completion.flatMap(ZeebeConfiguration.CompletionConfiguration::getRetryMaxBackoff)
+                        .orElse(DEFAULT_MAX_BACKOFF),
+                completion.flatMap(ZeebeConfiguration.CompletionConfiguration::getRetryJitter)
+                        .orElse(DEFAULT_JITTER));
+    }
+
+    /**
+     * Complete the job
+     *
+     * @param client    Job client
+     * @param job       Activated job
+     * @param variables Variables that are passed to the process, can be null
+     * @return Future that is completed when the broker acknowledges the command
+     */
+    public CompletableFuture<Void> complete(JobClient client, ActivatedJob job,
+                                            @Nullable Map<String, Object> variables) {
+        return dispatch("complete", client, job, jobClient -> (variables == null)
+                ? jobClient.newCompleteCommand(job.getKey())
+                : jobClient.newCompleteCommand(job.getKey()).variables(variables));
+    }
+
+    /**
+     * Throw business error for the job
+     *
+     * @param client       Job client
+     * @param job          Activated job
+     * @param errorCode    Error code
+     * @param errorMessage Error message
+     * @return Future that is completed when the broker acknowledges the command
+     */
+    public CompletableFuture<Void> throwError(JobClient client, ActivatedJob job, String errorCode,
+                                              String errorMessage) {
+        return dispatch("throw error", client, job, jobClient -> jobClient.newThrowErrorCommand(job.getKey())
+                .errorCode(errorCode)
+                .errorMessage(errorMessage));
+    }
+
+    /**
+     * Fail the job
+     *
+     * @param client       Job client
+     * @param job          Activated job
+     * @param retries      Remaining retries of the job
+     * @param errorMessage Error message
+     * @return Future that is completed when the broker acknowledges the command
+     */
+    public CompletableFuture<Void> fail(JobClient client, ActivatedJob job, int retries, String errorMessage) {
+        return dispatch("fail", client, job, jobClient -> jobClient.newFailCommand(job.getKey())
+                .retries(retries)
+                .errorMessage(errorMessage));
+    }
+
+    /**
+     * @return Count of commands that are sent but not yet acknowledged
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return Count of commands that wait for a free slot of the window
+     */
+    public int getPending() {
+        return pending.size();
+    }
+
+    private CompletableFuture<Void> dispatch(String name, JobClient client, ActivatedJob job,
+                                             Function<JobClient, FinalCommandStep<?>> command) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        pending.add(() -> send(name, client, job, command).whenComplete((r, throwable) -> {
+            inFlight.decrementAndGet();
+            drain();
+            if (throwable == null) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        }));
+        drain();
+        return result;
+    }
+
+    /**
+     * Send the queued commands while the window has free slots. A slot is taken
+     * before a command is polled, so the window is never exceeded, and every
+     * thread that frees a slot or queues a command drains the queue again, so
+     * no command is left in the queue while a slot is free.
+     */
+    private void drain() {
+        while (!pending.isEmpty()) {
+            final int current = inFlight.get();
+            if (current >= windowSize)
+                return;
+            if (!inFlight.compareAndSet(current, current + 1))
+                continue;
+            final Runnable command = pending.poll();
+            if (command == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            command.run();
+        }
+    }
+
+    private CompletableFuture<Void> send(String name, JobClient client, ActivatedJob job,
+                                         Function<JobClient, FinalCommandStep<?>> command) {
+        final Retry retryUntilDeadline = retry
+                .filter(throwable -> isTransient(throwable) && isBeforeDeadline(name, job, throwable))
+                .doBeforeRetry(signal -> logger.debug("dispatch() >> Retry {} job: {} of worker: {}, attempt: {}",
+                        name, job.getKey(), type, signal.totalRetries() + 1));
+        final boolean[] firstAttempt = {true};
+        return Mono.defer(() -> {
+            final JobClient jobClient = firstAttempt[0] ? client : getCurrentClient();
+            firstAttempt[0] = false;
+            return Mono.fromCompletionStage(command.apply(jobClient).send());
+        })
+                .retryWhen(retryUntilDeadline)
+                .onErrorMap(throwable -> Exceptions.isRetryExhausted(throwable)
+                        ? throwable.getCause()
+                        : throwable)
+                .doOnError(throwable -> logger.error("dispatch() >> Failed to {} job: {} of worker: {}, because: {}",
+                        name, job.getKey(), type, throwable.getMessage()))
+                .then()
+                .toFuture();
+    }
+
+    private JobClient getCurrentClient() {
+        return clientSupplier.get()
+                .orElseThrow(() -> new ClientStatusException(
+                        Status.UNAVAILABLE.withDescription("Connection to cluster is lost"), null));
+    }
+
+    private boolean isBeforeDeadline(String name, ActivatedJob job, Throwable throwable) {
+        if (System.currentTimeMillis() < job.getDeadline())
+            return true;
+        logger.warn("dispatch() >> Deadline of job: {} of worker: {} has passed, drop result of {}, because: {}",
+                job.getKey(), type, name, throwable.getMessage());
+        return false;
+    }
+
+    private static boolean isTransient(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof ClientStatusException
+                && TRANSIENT_CODES.contains(((ClientStatusException) cause).getStatusCode());
+    }
+}
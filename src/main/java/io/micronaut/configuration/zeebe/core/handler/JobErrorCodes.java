@@ -0,0 +1,62 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table of error codes of a worker. The error code of an exception is the code
+ * of the first declared exception type that the exception is an instance of,
+ * it is resolved once for every exception class.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class JobErrorCodes {
+
+    private final List<Class<? extends Throwable>> errorTypes;
+    private final List<String> errorCodes;
+    // Error code resolved for concrete exception class
+    private final Map<Class<?>, Optional<String>> errorCodeCache = new ConcurrentHashMap<>();
+
+    private JobErrorCodes(List<Class<? extends Throwable>> errorTypes, List<String> errorCodes) {
+        this.errorTypes = errorTypes;
+        this.errorCodes = errorCodes;
+    }
+
+    /**
+     * @param configuration Configuration of worker
+     * @return Error codes of the worker
+     */
+    public static JobErrorCodes of(WorkerConfiguration configuration) {
+        final List<Class<? extends Throwable>> errorTypes = new ArrayList<>();
+        final List<String> errorCodes = new ArrayList<>();
+        configuration.getErrors().forEach((code, throwables) -> throwables.forEach(throwable -> {
+            errorTypes.add(throwable);
+            errorCodes.add(code);
+        }));
+        return new JobErrorCodes(List.copyOf(errorTypes), List.copyOf(errorCodes));
+    }
+
+    /**
+     * Find error code that is defined for the exception.
+     *
+     * @param throwable Exception thrown by worker method
+     * @return Error code
+     */
+    public Optional<String> getErrorCode(Throwable throwable) {
+        return errorCodeCache.computeIfAbsent(throwable.getClass(), this::findErrorCode);
+    }
+
+    private Optional<String> findErrorCode(Class<?> throwableClass) {
+        for (int i = 0; i < errorTypes.size(); i++) {
+            if (errorTypes.get(i).isAssignableFrom(throwableClass))
+                return Optional.of(errorCodes.get(i));
+        }
+        return Optional.empty();
+    }
+}
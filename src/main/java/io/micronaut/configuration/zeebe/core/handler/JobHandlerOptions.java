@@ -0,0 +1,160 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.annotation.Nullable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Collaborators of a job handler of one worker. The executor scheduler, object
+ * mapper and completion dispatcher are required, the other parts are optional
+ * and are not used if they aren't set.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class JobHandlerOptions {
+
+    private final Scheduler executorScheduler;
+    private final ObjectMapper mapper;
+    private final JobCompletionDispatcher completionDispatcher;
+    private final Executor deadlineExecutor;
+    private final JobWatchdog watchdog;
+    private final JobQuarantine quarantine;
+    private final CompletedJobCache completedJobs;
+    private final Scheduler retryScheduler;
+
+    private JobHandlerOptions(Builder builder) {
+        this.executorScheduler = builder.executorScheduler;
+        this.mapper = builder.mapper;
+        this.completionDispatcher = builder.completionDispatcher;
+        this.deadlineExecutor = builder.deadlineExecutor;
+        this.watchdog = builder.watchdog;
+        this.quarantine = builder.quarantine;
+        this.completedJobs = builder.completedJobs;
+        this.retryScheduler = (builder.retryScheduler == null) ? Schedulers.parallel() : builder.retryScheduler;
+    }
+
+    /**
+     * @param executorScheduler    Scheduler on which the offloaded worker method
+     *                             is invoked
+     * @param mapper               Object mapper of variables
+     * @param completionDispatcher Dispatcher of the results of jobs
+     * @return Builder of options
+     */
+    public static Builder builder(Scheduler executorScheduler, ObjectMapper mapper,
+                                  JobCompletionDispatcher completionDispatcher) {
+        return new Builder(executorScheduler, mapper, completionDispatcher);
+    }
+
+    public Scheduler getExecutorScheduler() {
+        return executorScheduler;
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    public JobCompletionDispatcher getCompletionDispatcher() {
+        return completionDispatcher;
+    }
+
+    @Nullable
+    public Executor getDeadlineExecutor() {
+        return deadlineExecutor;
+    }
+
+    @Nullable
+    public JobWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    @Nullable
+    public JobQuarantine getQuarantine() {
+        return quarantine;
+    }
+
+    @Nullable
+    public CompletedJobCache getCompletedJobs() {
+        return completedJobs;
+    }
+
+    public Scheduler getRetryScheduler() {
+        return retryScheduler;
+    }
+
+    /**
+     * Builder of {@link JobHandlerOptions}
+     */
+    public static final class Builder {
+
+        private final Scheduler executorScheduler;
+        private final ObjectMapper mapper;
+        private final JobCompletionDispatcher completionDispatcher;
+        private Executor deadlineExecutor;
+        private JobWatchdog watchdog;
+        private JobQuarantine quarantine;
+        private CompletedJobCache completedJobs;
+        private Scheduler retryScheduler;
+
+        private Builder(Scheduler executorScheduler, ObjectMapper mapper,
+                        JobCompletionDispatcher completionDispatcher) {
+            this.executorScheduler = Objects.requireNonNull(executorScheduler);
+            this.mapper = Objects.requireNonNull(mapper);
+            this.completionDispatcher = Objects.requireNonNull(completionDispatcher);
+        }
+
+        /**
+         * @param deadlineExecutor Executor whose queue is ordered by deadlines of
+         *                         jobs, the offloaded jobs are submitted to it
+         *                         instead of the executor scheduler
+         */
+        public Builder deadlineExecutor(@Nullable Executor deadlineExecutor) {
+            this.deadlineExecutor = deadlineExecutor;
+            return this;
+        }
+
+        /**
+         * @param watchdog Watchdog that cancels the handlers of overdue jobs
+         */
+        public Builder watchdog(@Nullable JobWatchdog watchdog) {
+            this.watchdog = watchdog;
+            return this;
+        }
+
+        /**
+         * @param quarantine Quarantine that fails poison jobs without retries
+         */
+        public Builder quarantine(@Nullable JobQuarantine quarantine) {
+            this.quarantine = quarantine;
+            return this;
+        }
+
+        /**
+         * @param completedJobs Cache of completed jobs, a job from it is
+         *                      completed again without invoking the worker
+         *                      method
+         */
+        public Builder completedJobs(@Nullable CompletedJobCache completedJobs) {
+            this.completedJobs = completedJobs;
+            return this;
+        }
+
+        /**
+         * @param retryScheduler Scheduler on which the delayed retries of direct
+         *                       workers are invoked, by default the parallel
+         *                       scheduler of Reactor
+         */
+        public Builder retryScheduler(Scheduler retryScheduler) {
+            this.retryScheduler = retryScheduler;
+            return this;
+        }
+
+        public JobHandlerOptions build() {
+            return new JobHandlerOptions(this);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextMapper;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextVariable;
+import io.micronaut.configuration.zeebe.core.binder.JobBinder;
+import io.micronaut.configuration.zeebe.core.binder.JobBinderRegistry;
+import io.micronaut.configuration.zeebe.core.binder.JobDefaultBinder;
+import io.micronaut.configuration.zeebe.core.binder.StreamingVariablesExtractor;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionError;
+import io.micronaut.core.convert.exceptions.ConversionErrorException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ExecutableMethod;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Invocation plan of a worker method. The plan is compiled once, when the
+ * worker is registered, and holds everything that doesn't depend on a job:
+ * binder of every argument, the way the result of the method is handled and
+ * the table of error codes. So handling of a job is reduced to binding the
+ * values and calling the method.
+ * <p>
+ * If the worker enables streaming of variables and the method reads only
+ * separate scalar values of the variables document ({@link ZeebeContextVariable}
+ * and {@link ZeebeContextMapper} with path), the values are extracted by one
+ * streaming pass over the document instead of parsing the whole document. A
+ * value that can't be read from the token exactly, or any value of a malformed
+ * document, is bound by the binder of argument, so the conversion is the same
+ * as without streaming.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class JobInvocationPlan {
+
+    /**
+     * The way the result of the worker method is handled
+     */
+    public enum ResultKind {
+        VOID, SYNC, ASYNC, MONO, FLUX
+    }
+
+    private final ExecutableMethod<Object, Object> method;
+    private final Argument<Object>[] arguments;
+    private final JobBinder<Object>[] binders;
+    // Slot of streamed value for every argument, -1 if the argument is bound by binder
+    private final int[] streamedSlots;
+    private final StreamingVariablesExtractor extractor;
+    private final ResultKind resultKind;
+    private final JobErrorCodes errorCodes;
+
+    private JobInvocationPlan(ExecutableMethod<Object, Object> method, Argument<Object>[] arguments,
+                              JobBinder<Object>[] binders, int[] streamedSlots,
+                              StreamingVariablesExtractor extractor, ResultKind resultKind,
+                              JobErrorCodes errorCodes) {
+        this.method = method;
+        this.arguments = arguments;
+        this.binders = binders;
+        this.streamedSlots = streamedSlots;
+        this.extractor = extractor;
+        this.resultKind = resultKind;
+        this.errorCodes = errorCodes;
+    }
+
+    /**
+     * Compile invocation plan for worker method.
+     *
+     * @param configuration     Configuration of worker
+     * @param method            Worker method
+     * @param jobBinderRegistry Registry of argument binders
+     * @param mapper            Object mapper for streaming extraction of variables
+     * @return Invocation plan
+     * @throws ConfigurationException if there is no binder for some argument
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static JobInvocationPlan compile(WorkerConfiguration configuration, ExecutableMethod<?, ?> method,
+                                            JobBinderRegistry jobBinderRegistry, ObjectMapper mapper) {
+        final Argument<Object>[] arguments = (Argument<Object>[]) method.getArguments();
+        final JobBinder<Object>[] binders = new JobBinder[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            final Argument<Object> argument = arguments[i];
+            binders[i] = jobBinderRegistry.findJobBinder(argument)
+                    .map(binder -> binder.prepare(argument))
+                    .orElseThrow(() -> new ConfigurationException(
+                            String.format("Worker: %s has argument: %s that can't be bound!",
+                                    configuration.getType(), argument.getName())));
+        }
+
+        final int[] streamedSlots = new int[arguments.length];
+        Arrays.fill(streamedSlots, -1);
+        final StreamingVariablesExtractor extractor = !configuration.isStreamVariables()
+                ? null
+                : getStreamingExtractor(arguments, streamedSlots, mapper).orElse(null);
+        if (extractor == null)
+            Arrays.fill(streamedSlots, -1);
+
+        return new JobInvocationPlan((ExecutableMethod<Object, Object>) method, arguments, binders,
+                streamedSlots, extractor, getResultKind(method.getReturnType()), JobErrorCodes.of(configuration));
+    }
+
+    /**
+     * Build extractor of variables if all arguments that read variables need
+     * only separate values of the document whose types are read exactly.
+     */
+    private static Optional<StreamingVariablesExtractor> getStreamingExtractor(Argument<Object>[] arguments,
+                                                                                int[] streamedSlots,
+                                                                                ObjectMapper mapper) {
+        final List<List<String>> paths = new ArrayList<>();
+        final List<Argument<?>> streamedArguments = new ArrayList<>();
+        for (int i = 0; i < arguments.length; i++) {
+            final Argument<Object> argument = arguments[i];
+            final AnnotationMetadata annotationMetadata = argument.getAnnotationMetadata();
+            List<String> path = List.of();
+            if (argument.isAnnotationPresent(ZeebeContextVariable.class)) {
+                path = List.of(annotationMetadata.stringValue(ZeebeContextVariable.class)
+                        .orElse(argument.getName()));
+            } else if (argument.isAnnotationPresent(ZeebeContextMapper.class)) {
+                path = StringUtils.splitOmitEmptyStringsList(annotationMetadata
+                        .stringValue(ZeebeContextMapper.class, "path")
+                        .orElse(""), '.');
+                if (path.isEmpty())
+                    return Optional.empty();
+            } else if (JobDefaultBinder.VARIABLES.equals(argument.getName())
+                    && !annotationMetadata.hasStereotype(Bindable.class)) {
+                return Optional.empty();
+            }
+            if (!path.isEmpty()) {
+                if (!StreamingVariablesExtractor.isExactType(argument.getType()))
+                    return Optional.empty();
+                streamedSlots[i] = paths.size();
+                paths.add(path);
+                streamedArguments.add(argument);
+            }
+        }
+        if (paths.isEmpty())
+            return Optional.empty();
+        return StreamingVariablesExtractor.of(mapper, paths, streamedArguments, false);
+    }
+
+    static ResultKind getResultKind(ReturnType<?> returnType) {
+        if (returnType.isVoid())
+            return ResultKind.VOID;
+        if (returnType.isAsync())
+            return ResultKind.ASYNC;
+        if (returnType.isReactive())
+            return returnType.getType().isAssignableFrom(Mono.class)
+                    ? ResultKind.MONO
+                    : ResultKind.FLUX;
+        return ResultKind.SYNC;
+    }
+
+    /**
+     * Bind values of the job to arguments of worker method.
+     *
+     * @param job Activated job
+     * @return Values of arguments
+     */
+    public Object[] bind(ActivatedJob job) {
+        final Object[] values = new Object[arguments.length];
+        final Object[] streamed = extract(job);
+        for (int i = 0; i < arguments.length; i++) {
+            final Argument<Object> argument = arguments[i];
+            if (streamed != null && streamedSlots[i] >= 0
+                    && streamed[streamedSlots[i]] != StreamingVariablesExtractor.UNRESOLVED) {
+                values[i] = streamed[streamedSlots[i]];
+                if (values[i] == null && !argument.isNullable())
+                    throw new UnsatisfiedArgumentException(argument);
+                continue;
+            }
+            final ArgumentConversionContext<Object> context = ConversionContext.of(argument);
+            final ArgumentBinder.BindingResult<Object> result = binders[i].bind(context, job);
+            if (result.isPresentAndSatisfied()) {
+                values[i] = result.get();
+            } else if (!argument.isNullable()) {
+                final Optional<ConversionError> lastError = context.getLastError();
+                if (lastError.isPresent())
+                    throw new ConversionErrorException(argument, lastError.get());
+                throw new UnsatisfiedArgumentException(argument);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @return the streamed values, null if there is no extractor or the
+     *         document can't be read by it
+     */
+    private Object[] extract(ActivatedJob job) {
+        if (extractor == null)
+            return null;
+        try {
+            return extractor.extract(job.getVariables());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Bind values of the job and invoke worker method.
+     *
+     * @param bean Bean of worker
+     * @param job  Activated job
+     * @return Result of worker method
+     */
+    public Object invoke(Object bean, ActivatedJob job) {
+        return method.invoke(bean, bind(job));
+    }
+
+    /**
+     * Find error code that is defined for the exception.
+     *
+     * @param throwable Exception thrown by worker method
+     * @return Error code
+     */
+    public Optional<String> getErrorCode(Throwable throwable) {
+        return errorCodes.getErrorCode(throwable);
+    }
+
+    public ResultKind getResultKind() {
+        return resultKind;
+    }
+
+    public ExecutableMethod<Object, Object> getMethod() {
+        return method;
+    }
+}
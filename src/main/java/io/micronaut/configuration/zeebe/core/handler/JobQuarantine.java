@@ -0,0 +1,187 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.convert.exceptions.ConversionErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Quarantine of poison jobs of a worker. A job whose failure is deterministic
+ * would fail the same way on every retry, so it is failed without retries and
+ * the incident is raised at once, instead of after a re-activation per retry.
+ * <p>
+ * The failure is deterministic if a {@link FailureClassifier classifier} says
+ * so, e.g. the variables of job can't be bound to the arguments of worker
+ * method. A failure that no classifier knows is remembered by its fingerprint,
+ * the type of exception and its message without numbers. Once
+ * {@code repeatThreshold} different jobs of the worker have failed with the
+ * same fingerprint within the window, the failure is taken as deterministic:
+ * that job and every later job that fails with the fingerprint are poison too,
+ * until the window passes. Then the fingerprint is counted afresh, so a failure
+ * that was taken as deterministic by mistake isn't quarantined forever.
+ * Transient failures are never quarantined.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class JobQuarantine {
+
+    public static final List<Class<?>> DEFAULT_DETERMINISTIC_EXCEPTIONS = List.of(
+            UnsatisfiedArgumentException.class,
+            ConversionErrorException.class,
+            JsonProcessingException.class);
+    public static final List<Class<?>> DEFAULT_TRANSIENT_EXCEPTIONS = List.of(
+            ClientStatusException.class,
+            TimeoutException.class,
+            ConnectException.class,
+            SocketTimeoutException.class);
+    private static final Logger logger = LoggerFactory.getLogger(JobQuarantine.class);
+    private static final Pattern NUMBERS = Pattern.compile("\\d+");
+    private final String type;
+    private final List<FailureClassifier> classifiers;
+    private final int repeatThreshold;
+    private final long windowNanos;
+    private final int cacheSize;
+    private final long origin = System.nanoTime();
+    // Failures of jobs by fingerprint, the least recently seen fingerprint is evicted first
+    private final Map<String, Failure> failures;
+    private final LongAdder quarantinedCount = new LongAdder();
+
+    /**
+     * @param type            Type of worker
+     * @param classifiers     Classifiers of failures, in the order in which they
+     *                        are asked
+     * @param repeatThreshold Count of different jobs that must fail with the
+     *                        same fingerprint to quarantine it, 0 if only
+     *                        classified failures are quarantined
+     * @param window          Time from the first failure with a fingerprint
+     *                        for which its failures are counted and it stays
+     *                        poison
+     * @param cacheSize       Max count of fingerprints that are kept
+     */
+    public JobQuarantine(String type, List<FailureClassifier> classifiers, int repeatThreshold, Duration window,
+                         int cacheSize) {
+        this.type = type;
+        this.classifiers = classifiers;
+        this.repeatThreshold = repeatThreshold;
+        this.windowNanos = Math.max(1, window.toNanos());
+        this.cacheSize = Math.max(1, cacheSize);
+        this.failures = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Failure> eldest) {
+                return size() > JobQuarantine.this.cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Check the failure of job.
+     *
+     * @param job   Failed job
+     * @param cause Error of the worker method
+     * @return true if the job is poison and must be failed without retries
+     */
+    public boolean isPoison(ActivatedJob job, Throwable cause) {
+        final FailureClassifier.Kind kind = classify(job, cause);
+        if (kind == FailureClassifier.Kind.TRANSIENT)
+            return false;
+        if (kind == FailureClassifier.Kind.DETERMINISTIC)
+            return quarantine(job, cause, "deterministic failure");
+        if (repeatThreshold <= 0)
+            return false;
+        final String fingerprint = cause.getClass().getName() + ':'
+                + NUMBERS.matcher(Objects.requireNonNullElse(cause.getMessage(), "")).replaceAll("#");
+        final long now = now();
+        final int jobs;
+        synchronized (failures) {
+            final Failure failure = failures.computeIfAbsent(fingerprint, f -> new Failure(now));
+            if (now - failure.firstSeenAt >= windowNanos)
+                failure.reset(now);
+            jobs = failure.add(job.getKey(), repeatThreshold);
+        }
+        return jobs >= repeatThreshold && quarantine(job, cause, jobs + " jobs failed with the same error");
+    }
+
+    /**
+     * @return the count of jobs that were failed without retries
+     */
+    public long getQuarantinedCount() {
+        return quarantinedCount.sum();
+    }
+
+    private FailureClassifier.Kind classify(ActivatedJob job, Throwable cause) {
+        for (FailureClassifier classifier : classifiers) {
+            final FailureClassifier.Kind kind = classifier.classify(job, cause);
+            if (kind != FailureClassifier.Kind.UNKNOWN)
+                return kind;
+        }
+        return FailureClassifier.Kind.UNKNOWN;
+    }
+
+    private boolean quarantine(ActivatedJob job, Throwable cause, String reason) {
+        logger.warn("quarantine() >> Job: {} of worker: {} is poison, {}: {}, fail it without retries",
+                job.getKey(), type, reason, cause.getMessage());
+        quarantinedCount.increment();
+        return true;
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    /**
+     * Jobs that failed with one fingerprint since its first failure in the
+     * window, the keys are kept only until there are enough of them. Guarded
+     * by the map of failures.
+     */
+    private static final class Failure {
+
+        private final Set<Long> jobKeys = new HashSet<>();
+        private long firstSeenAt;
+        private boolean poison;
+
+        private Failure(long firstSeenAt) {
+            this.firstSeenAt = firstSeenAt;
+        }
+
+        /**
+         * Start a new window, the failures of the last window are forgotten.
+         */
+        private void reset(long now) {
+            firstSeenAt = now;
+            jobKeys.clear();
+            poison = false;
+        }
+
+        /**
+         * @return the count of different jobs that failed, the threshold once
+         *         it is reached
+         */
+        private int add(long jobKey, int threshold) {
+            if (poison)
+                return threshold;
+            jobKeys.add(jobKey);
+            if (jobKeys.size() < threshold)
+                return jobKeys.size();
+            poison = true;
+            jobKeys.clear();
+            return threshold;
+        }
+    }
+}
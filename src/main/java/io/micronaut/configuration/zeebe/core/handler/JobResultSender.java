@@ -0,0 +1,166 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.core.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Exceptions;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Passes the outcome of a job to the completion dispatcher: the result of
+ * worker method completes the job, an exception is mapped to a business error
+ * by the error codes of worker or fails the job. A poison job is failed without
+ * retries, if the worker has a {@link JobQuarantine quarantine}. The
+ * completions are remembered in the {@link CompletedJobCache cache} of
+ * completed jobs, if the worker has one, so a repeated activation of the job
+ * is answered by the same completion. The returned futures are completed when
+ * the broker acknowledges the command, so the job stays active until then.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+final class JobResultSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobResultSender.class);
+    private final WorkerConfiguration configuration;
+    private final Function<Throwable, Optional<String>> errorCodes;
+    private final JobCompletionDispatcher completionDispatcher;
+    private final JobQuarantine quarantine;
+    private final CompletedJobCache completedJobs;
+
+    JobResultSender(WorkerConfiguration configuration, Function<Throwable, Optional<String>> errorCodes,
+                    JobHandlerOptions options) {
+        this.configuration = configuration;
+        this.errorCodes = errorCodes;
+        this.completionDispatcher = options.getCompletionDispatcher();
+        this.quarantine = options.getQuarantine();
+        this.completedJobs = options.getCompletedJobs();
+    }
+
+    CompletableFuture<Void> completeJob(final JobClient client, final ActivatedJob job, final Object r) {
+        logger.debug("completeJob() >> Send result to zeebe...");
+        if (!configuration.isAutoComplete())
+            return CompletableFuture.completedFuture(null);
+        final Optional<?> resultContainer = (Objects.nonNull(r) && r.getClass().isAssignableFrom(Optional.class))
+                ? (Optional<?>) r
+                : Optional.ofNullable(r);
+        final Map<String, Object> variables = resultContainer
+                .map(result -> Map.<String, Object>of(configuration.getOutputVariableName(), result))
+                .orElse(null);
+        if (completedJobs != null)
+            completedJobs.put(job.getKey(), variables);
+        return completionDispatcher.complete(client, job, variables);
+    }
+
+    /**
+     * Complete the job again if it was completed recently, its completion
+     * could be lost, so the job was activated again.
+     *
+     * @return the acknowledgement of completion, null if the job isn't in the
+     *         cache
+     */
+    @Nullable
+    CompletableFuture<Void> completeFromCache(final JobClient client, final ActivatedJob job) {
+        if (completedJobs == null)
+            return null;
+        final Map<String, Object> variables = completedJobs.getVariables(job.getKey());
+        if (variables == null)
+            return null;
+        logger.info("completeFromCache() >> Job: {} of worker: {} is already completed, send its completion again",
+                job.getKey(), job.getType());
+        return completionDispatcher.complete(client, job, variables.isEmpty() ? null : variables);
+    }
+
+    /**
+     * Send the error of worker method to the broker.
+     *
+     * @return future that is completed with true if the error is a business
+     *         error of the process, false if the job is failed
+     */
+    CompletableFuture<Boolean> handleThrowable(final JobClient client, final ActivatedJob job,
+                                               final Throwable throwable) {
+        logger.warn("handleThrowable() >> for job: {}, process id: {}, instance id: {}, cause: {}",
+                job.getType(), job.getBpmnProcessId(), job.getProcessInstanceKey(), throwable.getMessage());
+        if (!configuration.isAutoComplete())
+            return CompletableFuture.completedFuture(false);
+        final Throwable cause = unwrap(throwable);
+        final Optional<String> errorCode = errorCodes.apply(cause);
+        if (errorCode.isPresent()) {
+            logger.debug("handleThrowable() >> Get error with code: {}", errorCode.get());
+            return acknowledged(completionDispatcher.throwError(client, job, errorCode.get(),
+                    getErrorMessage(cause)), true);
+        }
+        logger.debug("handleThrowable() >> Get Fail: {}", cause.getMessage());
+        final int retries = (quarantine != null && quarantine.isPoison(job, cause))
+                ? 0
+                : job.getRetries() - 1;
+        return acknowledged(completionDispatcher.fail(client, job, retries, getErrorMessage(cause)), false);
+    }
+
+    /**
+     * Fail the job that wasn't started, so it can be activated again at once.
+     * Its retries are decreased by one, so a job that can never be started in
+     * time ends in an incident instead of being activated forever.
+     */
+    CompletableFuture<Void> failUnstarted(final JobClient client, final ActivatedJob job, final String reason) {
+        logger.debug("failUnstarted() >> Fail job: {} of worker: {}, because: {}", job.getKey(), job.getType(),
+                reason);
+        if (!configuration.isAutoComplete())
+            return CompletableFuture.completedFuture(null);
+        return completionDispatcher.fail(client, job, job.getRetries() - 1, reason);
+    }
+
+    /**
+     * Fail the job whose handler was cancelled by the watchdog, the retries of
+     * job are decreased by one.
+     */
+    void failOverdue(final JobClient client, final ActivatedJob job) {
+        logger.debug("failOverdue() >> Fail overdue job: {} of worker: {}", job.getKey(), job.getType());
+        if (!configuration.isAutoComplete())
+            return;
+        completionDispatcher.fail(client, job, job.getRetries() - 1,
+                "Handler of the job didn't finish before the deadline of the job");
+    }
+
+    /**
+     * @return future that is completed with the outcome of job when the command
+     *         is acknowledged, or with false if the command is failed, it is
+     *         never completed exceptionally
+     */
+    static CompletableFuture<Boolean> acknowledged(final CompletableFuture<?> sent, final boolean succeeded) {
+        return sent.handle((response, throwable) -> succeeded && throwable == null);
+    }
+
+    private String getErrorMessage(final Throwable cause) {
+        return Optional.ofNullable(cause.getMessage())
+                .orElse(cause.getClass().getSimpleName());
+    }
+
+    /**
+     * @return the cause of the error of worker method, without the wrappers of
+     *         Reactor and futures
+     */
+    static Throwable unwrap(final Throwable throwable) {
+        return unboxThrowable(Exceptions.unwrap(throwable));
+    }
+
+    private static Throwable unboxThrowable(final Throwable throwable) {
+        if (throwable instanceof ExecutionException || throwable instanceof CompletionException) {
+            return (throwable.getCause() == null)
+                    ? throwable
+                    : unboxThrowable(throwable.getCause());
+        } else {
+            return throwable;
+        }
+    }
+}
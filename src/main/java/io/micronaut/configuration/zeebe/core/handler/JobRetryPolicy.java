@@ -0,0 +1,123 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Retry of worker method in the process, it is defined by
+ * {@link io.micronaut.configuration.zeebe.core.annotation.job.ZeebeRetryable}.
+ * An exception is retried if it is one of the retried exceptions, or any
+ * exception but a deterministic failure of binding if none are listed, and
+ * isn't mapped to an error code, there are attempts left, and the next attempt
+ * starts before the deadline of job.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+final class JobRetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRetryPolicy.class);
+    private final String type;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+    private final List<Class<? extends Throwable>> retryOn;
+    private final Function<Throwable, Optional<String>> errorCodes;
+
+    private JobRetryPolicy(WorkerConfiguration configuration, Function<Throwable, Optional<String>> errorCodes) {
+        this.type = configuration.getType();
+        this.maxAttempts = configuration.getRetryMaxAttempts();
+        this.backoffMillis = configuration.getRetryBackoff().toMillis();
+        this.maxBackoffMillis = Math.max(backoffMillis, configuration.getRetryMaxBackoff().toMillis());
+        this.multiplier = Math.max(1, configuration.getRetryMultiplier());
+        this.retryOn = configuration.getRetryOn();
+        this.errorCodes = errorCodes;
+    }
+
+    /**
+     * @param configuration Configuration of worker
+     * @param errorCodes    Error codes of worker
+     * @return Policy, null if the worker isn't retried
+     */
+    static JobRetryPolicy of(WorkerConfiguration configuration, Function<Throwable, Optional<String>> errorCodes) {
+        if (configuration.getRetryMaxAttempts() == null || configuration.getRetryMaxAttempts() <= 1)
+            return null;
+        return new JobRetryPolicy(configuration, errorCodes);
+    }
+
+    /**
+     * @param job       Activated job
+     * @param retry     Number of the retry, from 1
+     * @param throwable Exception of the last attempt
+     * @return Delay before the retry in milliseconds, -1 if the exception isn't
+     *         retried
+     */
+    long getDelayMillis(ActivatedJob job, int retry, Throwable throwable) {
+        if (retry >= maxAttempts)
+            return -1;
+        final Throwable cause = JobResultSender.unwrap(throwable);
+        if (!isRetried(cause))
+            return -1;
+        final long delay = (long) Math.min(maxBackoffMillis, backoffMillis * Math.pow(multiplier, retry - 1));
+        if (System.currentTimeMillis() + delay >= job.getDeadline())
+            return -1;
+        logger.debug("getDelayMillis() >> Retry job: {} of worker: {} in {} ms, attempt: {}, because: {}",
+                job.getKey(), type, delay, retry + 1, cause.getMessage());
+        return delay;
+    }
+
+    /**
+     * Retry the invocation of worker method on its errors.
+     *
+     * @param invocation Invocation, it is subscribed again for every attempt
+     * @param job        Activated job
+     * @param retryable  Returns false for the errors that are never retried
+     * @param <T>        Type of result
+     * @return Invocation with retries
+     */
+    <T> Mono<T> retry(Mono<T> invocation, ActivatedJob job, Predicate<Throwable> retryable) {
+        return invocation.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+            final long delay = retryable.test(signal.failure())
+                    ? getDelayMillis(job, (int) signal.totalRetries() + 1, signal.failure())
+                    : -1;
+            return (delay < 0)
+                    ? Mono.error(signal.failure())
+                    : Mono.delay(Duration.ofMillis(delay));
+        })));
+    }
+
+    private boolean isRetried(Throwable cause) {
+        if (errorCodes.apply(cause).isPresent())
+            return false;
+        if (retryOn.isEmpty())
+            return cause instanceof Exception && !isDeterministic(cause);
+        for (Class<? extends Throwable> retried : retryOn) {
+            if (retried.isInstance(cause))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * The failures that are deterministic for the quarantine, e.g. variables
+     * that can't be bound, fail the same way on every attempt.
+     */
+    private static boolean isDeterministic(Throwable cause) {
+        for (Class<?> deterministic : JobQuarantine.DEFAULT_DETERMINISTIC_EXCEPTIONS) {
+            if (deterministic.isInstance(cause))
+                return true;
+        }
+        return false;
+    }
+}
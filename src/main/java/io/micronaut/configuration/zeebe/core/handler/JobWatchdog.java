@@ -0,0 +1,199 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.configuration.zeebe.core.executor.HashedWheelTimer;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Watchdog of jobs in work. When the deadline of a job comes, the broker
+ * activates the job for another worker and rejects the result of the handler
+ * that is still running, so the rest of its work is wasted. The watchdog
+ * cancels such handler: the subscription to the result of worker method is
+ * disposed, the thread that invokes the method is interrupted and,
+ * optionally, the job is failed at once, so it can be retried without waiting
+ * for the broker to time it out.
+ * <p>
+ * The deadlines are tracked by a {@link HashedWheelTimer}, so watching a job
+ * costs O(1) regardless of the count of jobs in work.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+@Singleton
+@Requires(beans = ZeebeConfiguration.class)
+@Requires(property = "zeebe.watchdog.enabled", value = "true", defaultValue = "false")
+public class JobWatchdog implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobWatchdog.class);
+    private static final String THREAD_NAME = "zeebe-watchdog";
+    private final HashedWheelTimer timer;
+    private final long leadTimeMillis;
+    private final boolean interrupt;
+    private final boolean failOverdue;
+    private final LongAdder overdueCount = new LongAdder();
+    private final LongAdder interruptedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    @Inject
+    public JobWatchdog(ZeebeConfiguration configuration) {
+        final Optional<ZeebeConfiguration.WatchdogConfiguration> watchdog =
+                Optional.ofNullable(configuration.getWatchdogConfiguration());
+        this.timer = new HashedWheelTimer(THREAD_NAME,
+                watchdog.flatMap(ZeebeConfiguration.WatchdogConfiguration::getTickDuration)
+                        .orElse(HashedWheelTimer.DEFAULT_TICK),
+                watchdog.flatMap(ZeebeConfiguration.WatchdogConfiguration::getWheelSize)
+                        .orElse(HashedWheelTimer.DEFAULT_WHEEL_SIZE));
+        this.leadTimeMillis = watchdog.flatMap(ZeebeConfiguration.WatchdogConfiguration::getLeadTime)
+                .map(Duration::toMillis)
+                .orElse(0L);
+        this.interrupt = watchdog.flatMap(ZeebeConfiguration.WatchdogConfiguration::isInterrupt)
+                .orElse(true);
+        this.failOverdue = watchdog.flatMap(ZeebeConfiguration.WatchdogConfiguration::isFailOverdue)
+                .orElse(false);
+    }
+
+    /**
+     * Start watching the job.
+     *
+     * @param job    Job in work
+     * @param cancel Cancels the handler of job, it is called once if the job is
+     *               overdue
+     * @param fail   Fails the job, it is called after cancel if the overdue
+     *               jobs are failed
+     * @return Watch that must be finished when the handler is finished
+     */
+    public Watch watch(ActivatedJob job, Runnable cancel, Runnable fail) {
+        final Watch watch = new Watch(job, cancel, fail);
+        watch.timeout = timer.schedule(() -> onOverdue(watch),
+                job.getDeadline() - leadTimeMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        return watch;
+    }
+
+    /**
+     * @return the count of jobs that are watched
+     */
+    public int getWatchedCount() {
+        return timer.getPendingCount();
+    }
+
+    /**
+     * @return the count of jobs whose handlers were cancelled at the deadline
+     */
+    public long getOverdueCount() {
+        return overdueCount.sum();
+    }
+
+    /**
+     * @return the count of threads of overdue handlers that were interrupted
+     */
+    public long getInterruptedCount() {
+        return interruptedCount.sum();
+    }
+
+    /**
+     * @return the count of overdue jobs that were failed
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        timer.close();
+    }
+
+    /**
+     * Runs on the thread of timer, so only the interruption is done here, the
+     * handler is cancelled and the job is failed asynchronously.
+     */
+    private void onOverdue(Watch watch) {
+        overdueCount.increment();
+        logger.warn("onOverdue() >> Job: {} of worker: {} is still in work at its deadline, cancel handler",
+                watch.job.getKey(), watch.job.getType());
+        if (interrupt && watch.interrupt())
+            interruptedCount.increment();
+        CompletableFuture.runAsync(() -> {
+            watch.cancel.run();
+            if (failOverdue) {
+                watch.fail.run();
+                failedCount.increment();
+            }
+        }).whenComplete((result, throwable) -> {
+            if (throwable != null)
+                logger.warn("onOverdue() >> Failed to cancel handler of job: {}, because: {}",
+                        watch.job.getKey(), throwable.getMessage());
+        });
+    }
+
+    /**
+     * Watch of one job. The handler marks the blocking invocation of worker
+     * method by {@link #enter()} and {@link #exit()}, so its thread can be
+     * interrupted, and {@link #finish() finishes} the watch before it sends the
+     * result.
+     */
+    public static final class Watch {
+
+        private final ActivatedJob job;
+        private final Runnable cancel;
+        private final Runnable fail;
+        private HashedWheelTimer.Timeout timeout;
+        // Guarded by this
+        private Thread thread;
+        private boolean interrupted;
+
+        private Watch(ActivatedJob job, Runnable cancel, Runnable fail) {
+            this.job = job;
+            this.cancel = cancel;
+            this.fail = fail;
+        }
+
+        /**
+         * The current thread starts the invocation of worker method.
+         */
+        public synchronized void enter() {
+            thread = Thread.currentThread();
+        }
+
+        /**
+         * The current thread finishes the invocation of worker method. The
+         * interrupt of watchdog is cleared, so it doesn't leak to the next task
+         * of the thread.
+         */
+        public synchronized void exit() {
+            thread = null;
+            if (interrupted)
+                Thread.interrupted();
+        }
+
+        /**
+         * Stop watching the job.
+         *
+         * @return true if the job is finished in time, false if it is overdue
+         *         and its result must be dropped
+         */
+        public boolean finish() {
+            return timeout.cancel();
+        }
+
+        private synchronized boolean interrupt() {
+            if (thread == null)
+                return false;
+            interrupted = true;
+            thread.interrupt();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Activated job that parses the variables document at most once. The job is
+ * created for every invocation of a worker, so all binders of the invocation
+ * share the parsed variables instead of parsing the JSON string again. As the
+ * variables are shared, they are returned as an unmodifiable map.
+ * <p>
+ * The job is passed from the thread of job worker to the executor and to the
+ * threads of retries, so the parsed variables are held in a volatile field. If
+ * two threads parse the variables at once, each of them gets an equal map.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class ParsedActivatedJob implements ActivatedJob {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() {};
+    private final ActivatedJob job;
+    private final ObjectMapper mapper;
+    private volatile Map<String, Object> variables;
+
+    public ParsedActivatedJob(ActivatedJob job, ObjectMapper mapper) {
+        this.job = job;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Release the parsed variables, it is called when the job is finished.
+     */
+    public void release() {
+        this.variables = null;
+    }
+
+    @Override
+    public long getKey() {
+        return job.getKey();
+    }
+
+    @Override
+    public String getType() {
+        return job.getType();
+    }
+
+    @Override
+    public long getProcessInstanceKey() {
+        return job.getProcessInstanceKey();
+    }
+
+    @Override
+    public String getBpmnProcessId() {
+        return job.getBpmnProcessId();
+    }
+
+    @Override
+    public int getProcessDefinitionVersion() {
+        return job.getProcessDefinitionVersion();
+    }
+
+    @Override
+    public long getProcessDefinitionKey() {
+        return job.getProcessDefinitionKey();
+    }
+
+    @Override
+    public String getElementId() {
+        return job.getElementId();
+    }
+
+    @Override
+    public long getElementInstanceKey() {
+        return job.getElementInstanceKey();
+    }
+
+    @Override
+    public Map<String, String> getCustomHeaders() {
+        return job.getCustomHeaders();
+    }
+
+    @Override
+    public String getWorker() {
+        return job.getWorker();
+    }
+
+    @Override
+    public int getRetries() {
+        return job.getRetries();
+    }
+
+    @Override
+    public long getDeadline() {
+        return job.getDeadline();
+    }
+
+    @Override
+    public String getVariables() {
+        return job.getVariables();
+    }
+
+    @Override
+    public Map<String, Object> getVariablesAsMap() {
+        Map<String, Object> parsed = variables;
+        if (parsed == null) {
+            parsed = Collections.unmodifiableMap(parseVariables());
+            variables = parsed;
+        }
+        return parsed;
+    }
+
+    @Override
+    public <T> T getVariablesAsType(Class<T> variableType) {
+        return mapper.convertValue(getVariablesAsMap(), variableType);
+    }
+
+    @Override
+    public String toJson() {
+        return job.toJson();
+    }
+
+    private Map<String, Object> parseVariables() {
+        try {
+            return mapper.readValue(job.getVariables(), VARIABLES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(
+                    String.format("Failed to deserialize variables of job: %s", job.getKey()), e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.micronaut.context.exceptions.ConfigurationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handler of job type that is shared by several worker methods. The job is
+ * passed to the method whose route value equals the value of the routing
+ * header of the job, or to the method with empty route value if there is no
+ * such route. The table of routes is rebuilt only when a route is added, so a
+ * job is routed by one lookup in a hash map.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class RoutingJobHandler implements TrackedJobHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoutingJobHandler.class);
+    private final String type;
+    private final String header;
+    private final JobCompletionDispatcher completionDispatcher;
+    private volatile Map<String, TrackedJobHandler> routes = Map.of();
+    private volatile TrackedJobHandler fallback;
+
+    /**
+     * @param type                 Type of jobs
+     * @param header               Name of custom header by which jobs are routed
+     * @param completionDispatcher Dispatcher that fails jobs without route
+     */
+    public RoutingJobHandler(String type, String header, JobCompletionDispatcher completionDispatcher) {
+        this.type = type;
+        this.header = header;
+        this.completionDispatcher = completionDispatcher;
+    }
+
+    /**
+     * Add route.
+     *
+     * @param value   Value of routing header, empty for jobs that match no
+     *                other route
+     * @param handler Handler of the jobs
+     * @throws ConfigurationException if the route is already defined
+     */
+    public synchronized void addRoute(String value, TrackedJobHandler handler) {
+        if (value.isEmpty()) {
+            if (fallback != null)
+                throw new ConfigurationException(String.format("Worker: %s has duplicated default route!", type));
+            fallback = handler;
+            return;
+        }
+        if (routes.containsKey(value))
+            throw new ConfigurationException(String.format("Worker: %s has duplicated route: %s=%s!",
+                    type, header, value));
+        final Map<String, TrackedJobHandler> updated = new HashMap<>(routes);
+        updated.put(value, handler);
+        routes = updated;
+    }
+
+    @Override
+    public void handle(JobClient client, ActivatedJob job) throws Exception {
+        execute(client, job);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> execute(JobClient client, ActivatedJob job) {
+        final String value = job.getCustomHeaders().get(header);
+        TrackedJobHandler handler = (value == null) ? null : routes.get(value);
+        if (handler == null)
+            handler = fallback;
+        if (handler == null) {
+            logger.warn("execute() >> Job: {} of worker: {} has no route for header: {} with value: {}",
+                    job.getKey(), type, header, value);
+            return JobResultSender.acknowledged(completionDispatcher.fail(client, job, job.getRetries() - 1,
+                    String.format("No route for header: %s with value: %s", header, value)), false);
+        }
+        return handler.execute(client, job);
+    }
+
+    public String getHeader() {
+        return header;
+    }
+}
@@ -0,0 +1,29 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Job handler that notifies when it is finished with the job and the broker
+ * has acknowledged its result, so the job worker counts the job as active
+ * until then.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public interface TrackedJobHandler extends JobHandler {
+
+    /**
+     * Handle the job.
+     *
+     * @param client Job client
+     * @param job    Activated job
+     * @return Future that is completed when the result of job is acknowledged
+     *         by the broker, with false if
+     *         the job is failed, it is never completed exceptionally
+     */
+    CompletableFuture<Boolean> execute(JobClient client, ActivatedJob job);
+}
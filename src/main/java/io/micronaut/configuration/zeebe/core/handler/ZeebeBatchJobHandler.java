@@ -0,0 +1,190 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ExecutableMethod;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Handler of batch worker. The worker method is invoked once for a batch of
+ * jobs, on the executor of worker, and every job of the batch is finished by
+ * its own element of the result list. A job whose variables can't be mapped
+ * to the element type of the argument is failed alone and isn't passed to the
+ * method, as well as a job from the cache of completed jobs, which is completed
+ * again with its cached variables.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class ZeebeBatchJobHandler implements JobHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZeebeBatchJobHandler.class);
+    private final WorkerConfiguration configuration;
+    private final ExecutableMethod<Object, Object> method;
+    private final Object bean;
+    private final Scheduler executorScheduler;
+    private final ObjectMapper mapper;
+    private final JobResultSender resultSender;
+    private final JobInvocationPlan.ResultKind resultKind;
+    // Type to which the variables of job are mapped, null if the method takes jobs
+    private final JavaType elementType;
+
+    /**
+     * @param configuration Configuration of worker
+     * @param method        Worker method
+     * @param bean          Bean of worker
+     * @param options       Collaborators of the handler
+     */
+    @SuppressWarnings("unchecked")
+    public ZeebeBatchJobHandler(WorkerConfiguration configuration, ExecutableMethod<?, ?> method, Object bean,
+                                JobHandlerOptions options) {
+        this.configuration = configuration;
+        this.method = (ExecutableMethod<Object, Object>) method;
+        this.bean = bean;
+        this.executorScheduler = options.getExecutorScheduler();
+        this.mapper = options.getMapper();
+        this.resultSender = new JobResultSender(configuration, JobErrorCodes.of(configuration)::getErrorCode,
+                options);
+        this.resultKind = JobInvocationPlan.getResultKind(method.getReturnType());
+        this.elementType = getElementType(configuration, method, this.mapper);
+    }
+
+    private static JavaType getElementType(WorkerConfiguration configuration, ExecutableMethod<?, ?> method,
+                                           ObjectMapper mapper) {
+        final Argument<?>[] arguments = method.getArguments();
+        if (arguments.length != 1 || !arguments[0].getType().isAssignableFrom(List.class))
+            throw new ConfigurationException(String.format(
+                    "Batch worker: %s must have one argument of type List!", configuration.getType()));
+        final Class<?> type = arguments[0].getFirstTypeVariable()
+                .<Class<?>>map(Argument::getType)
+                .orElse(ActivatedJob.class);
+        return type.isAssignableFrom(ActivatedJob.class)
+                ? null
+                : mapper.getTypeFactory().constructType(type);
+    }
+
+    /**
+     * Handle one job as a batch of one job.
+     */
+    @Override
+    public void handle(JobClient client, ActivatedJob job) throws Exception {
+        execute(client, List.of(job));
+    }
+
+    /**
+     * Handle the batch of jobs. The results of jobs are sent to the broker
+     * asynchronously.
+     *
+     * @param client Job client
+     * @param jobs   Activated jobs
+     * @return Future that is completed when the method is finished and the
+     *         results are passed to the completion dispatcher, it is never
+     *         completed exceptionally
+     */
+    public CompletableFuture<Void> execute(JobClient client, List<ActivatedJob> jobs) {
+        logger.debug("execute() >> Handle batch of {} jobs with type: {}", jobs.size(), configuration.getType());
+        final List<ActivatedJob> accepted = new ArrayList<>(jobs.size());
+        final List<Object> values = new ArrayList<>(jobs.size());
+        for (ActivatedJob job : jobs) {
+            if (resultSender.completeFromCache(client, job) != null)
+                continue;
+            try {
+                values.add(mapJob(job));
+                accepted.add(job);
+            } catch (RuntimeException e) {
+                resultSender.handleThrowable(client, job, e);
+            }
+        }
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+        if (accepted.isEmpty()) {
+            finished.complete(null);
+            return finished;
+        }
+        invokeMethod(values)
+                .subscribeOn(executorScheduler)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .subscribe(result -> {
+                    try {
+                        completeJobs(client, accepted, result.orElse(null));
+                    } finally {
+                        finished.complete(null);
+                    }
+                }, throwable -> {
+                    try {
+                        accepted.forEach(job -> resultSender.handleThrowable(client, job, throwable));
+                    } finally {
+                        finished.complete(null);
+                    }
+                });
+        return finished;
+    }
+
+    private Object mapJob(ActivatedJob job) {
+        if (elementType == null)
+            return job;
+        try {
+            return mapper.readValue(job.getVariables(), elementType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(
+                    String.format("Failed to deserialize variables of job: %s", job.getKey()), e);
+        }
+    }
+
+    private void completeJobs(JobClient client, List<ActivatedJob> jobs, Object results) {
+        if (results == null) {
+            jobs.forEach(job -> resultSender.completeJob(client, job, null));
+            return;
+        }
+        if (!(results instanceof Collection) || ((Collection<?>) results).size() != jobs.size()) {
+            final IllegalStateException exception = new IllegalStateException(String.format(
+                    "Batch worker: %s must return one result for every job!", configuration.getType()));
+            jobs.forEach(job -> resultSender.handleThrowable(client, job, exception));
+            return;
+        }
+        final Iterator<?> iterator = ((Collection<?>) results).iterator();
+        for (ActivatedJob job : jobs) {
+            final Object result = iterator.next();
+            if (result instanceof Throwable) {
+                resultSender.handleThrowable(client, job, (Throwable) result);
+            } else {
+                resultSender.completeJob(client, job, result);
+            }
+        }
+    }
+
+    private Mono<?> invokeMethod(List<Object> values) {
+        switch (resultKind) {
+            case VOID:
+                return Mono.fromRunnable(() -> method.invoke(bean, values));
+            case ASYNC:
+                return Mono.defer(() -> Mono.fromCompletionStage((CompletionStage<?>) method.invoke(bean, values)));
+            case MONO:
+                return Mono.defer(() -> Mono.from((Publisher<?>) method.invoke(bean, values)));
+            case FLUX:
+                return Mono.defer(() -> Flux.from((Publisher<?>) method.invoke(bean, values)).collectList());
+            default:
+                return Mono.fromCallable(() -> method.invoke(bean, values));
+        }
+    }
+}
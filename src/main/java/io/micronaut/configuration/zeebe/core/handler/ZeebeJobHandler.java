@@ -1,26 +1,34 @@
 package io.micronaut.configuration.zeebe.core.handler;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
-import io.camunda.zeebe.client.api.worker.JobHandler;
-import io.micronaut.configuration.zeebe.core.binder.JobBinderRegistry;
+import io.micronaut.configuration.zeebe.core.annotation.job.DispatchMode;
+import io.micronaut.configuration.zeebe.core.annotation.job.Ordering;
+import io.micronaut.configuration.zeebe.core.binder.StreamingVariablesExtractor;
 import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
-import io.micronaut.core.bind.BoundExecutable;
-import io.micronaut.core.bind.DefaultExecutableBinder;
-import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.configuration.zeebe.core.executor.DeadlineTask;
+import io.micronaut.configuration.zeebe.core.executor.StripedExecutor;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Implementation of Zeebe job handler
@@ -28,122 +36,372 @@ import java.util.concurrent.ExecutionException;
  * @author Gromov Vitaly.
  * @since 1.0.0
  */
-public class ZeebeJobHandler implements JobHandler {
+public class ZeebeJobHandler implements TrackedJobHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ZeebeJobHandler.class);
+    // Stripes of ordering executor per job in work, so different keys rarely share a stripe
+    private static final int STRIPES_PER_JOB = 4;
     private final WorkerConfiguration configuration;
-    private final ExecutableMethod<?, ?> method;
+    private final JobInvocationPlan plan;
     private final Object bean;
-    private final JobBinderRegistry jobBinderRegistry;
     private final Scheduler executorScheduler;
+    private final ObjectMapper mapper;
+    private final JobResultSender resultSender;
+    private final DispatchMode dispatchMode;
+    // Executor whose queue is ordered by deadlines of jobs, null if the queue is FIFO
+    private final Executor deadlineExecutor;
+    private final long minRemainingMillis;
+    // Serializes jobs with the same ordering key, null if jobs are handled in parallel
+    private final StripedExecutor orderingExecutor;
+    // Extractor of ordering variable, null if jobs are ordered by process instance
+    private final StreamingVariablesExtractor orderingExtractor;
+    // Cancels the handlers of overdue jobs, null if the jobs aren't watched
+    private final JobWatchdog watchdog;
+    // Retries the worker method before the job is failed, null if it isn't retried
+    private final JobRetryPolicy retryPolicy;
+    // Runs the delayed retries of direct workers
+    private final Scheduler retryScheduler;
 
-    public ZeebeJobHandler(WorkerConfiguration configuration, ExecutableMethod<?, ?> method,
-                           Object bean, JobBinderRegistry jobBinderRegistry,
-                           Scheduler executorScheduler) {
+    /**
+     * @param configuration Configuration of worker
+     * @param plan          Invocation plan of worker method
+     * @param bean          Bean of worker
+     * @param options       Collaborators of the handler
+     */
+    public ZeebeJobHandler(WorkerConfiguration configuration, JobInvocationPlan plan, Object bean,
+                           JobHandlerOptions options) {
         this.configuration = configuration;
-        this.method = method;
+        this.plan = plan;
         this.bean = bean;
-        this.jobBinderRegistry = jobBinderRegistry;
-        this.executorScheduler = executorScheduler;
+        this.executorScheduler = options.getExecutorScheduler();
+        this.mapper = options.getMapper();
+        this.resultSender = new JobResultSender(configuration, plan::getErrorCode, options);
+        this.dispatchMode = resolveDispatchMode(configuration.getDispatchMode(), plan.getResultKind());
+        this.deadlineExecutor = options.getDeadlineExecutor();
+        this.minRemainingMillis = (configuration.getMinRemainingTime() == null)
+                ? 0
+                : configuration.getMinRemainingTime().toMillis();
+        final Ordering ordering = Optional.ofNullable(configuration.getOrdering()).orElse(Ordering.NONE);
+        this.orderingExecutor = (ordering == Ordering.NONE)
+                ? null
+                : new StripedExecutor(configuration.getMaxJobsActive() * STRIPES_PER_JOB);
+        this.orderingExtractor = (ordering == Ordering.VARIABLE)
+                ? StreamingVariablesExtractor.of(this.mapper,
+                        List.of(StringUtils.splitOmitEmptyStringsList(configuration.getOrderingVariable(), '.')),
+                        List.of(Argument.OBJECT_ARGUMENT))
+                .orElse(null)
+                : null;
+        this.watchdog = options.getWatchdog();
+        this.retryPolicy = JobRetryPolicy.of(configuration, plan::getErrorCode);
+        this.retryScheduler = options.getRetryScheduler();
     }
 
+    /**
+     * Handle the job. The result of the job is sent to the broker asynchronously,
+     * the method doesn't wait for the response of the broker. The thread on
+     * which the worker method is invoked depends on the dispatch mode of worker.
+     */
     @Override
     public void handle(JobClient client, ActivatedJob job) throws Exception {
-        logger.debug("handle() >> Handle job with type:{} and instance id: {} for process: {}",
+        execute(client, job);
+    }
+
+    /**
+     * Handle the job, like {@link #handle(JobClient, ActivatedJob)}, and notify
+     * when the worker method is finished and the broker has acknowledged its
+     * result. Until then the job is counted as active.
+     *
+     * @param client Job client
+     * @param job    Activated job
+     * @return Future that is completed when the job is finished, with false if
+     *         the job is failed, it is never completed exceptionally
+     */
+    @Override
+    public CompletableFuture<Boolean> execute(JobClient client, ActivatedJob job) {
+        final CompletableFuture<Void> cached = resultSender.completeFromCache(client, job);
+        if (cached != null)
+            return JobResultSender.acknowledged(cached, true);
+        if (orderingExecutor == null)
+            return executeJob(client, job);
+        return orderingExecutor.submit(getOrderingKey(job), () -> executeJob(client, job));
+    }
+
+    /**
+     * The key of job is the hash of the value of ordering variable, or the
+     * process instance if there is no such variable.
+     */
+    private long getOrderingKey(ActivatedJob job) {
+        if (orderingExtractor != null) {
+            try {
+                final Object value = orderingExtractor.extract(job.getVariables())[0];
+                if (value != null)
+                    return value.hashCode();
+            } catch (IllegalArgumentException e) {
+                logger.warn("getOrderingKey() >> Failed to read ordering variable of job: {}, because: {}",
+                        job.getKey(), e.getMessage());
+            }
+        }
+        return job.getProcessInstanceKey();
+    }
+
+    private CompletableFuture<Boolean> executeJob(JobClient client, ActivatedJob job) {
+        logger.debug("execute() >> Handle job with type:{} and instance id: {} for process: {}",
                 job.getType(), job.getProcessInstanceKey(), job.getBpmnProcessId());
-        if (method.getReturnType().isVoid()) {
+        if (isExpiring(job))
+            return returnExpiring(client, job);
+        final ParsedActivatedJob parsedJob = new ParsedActivatedJob(job, mapper);
+        switch (dispatchMode) {
+            case DIRECT:
+                return handleDirect(client, job, parsedJob);
+            case NONBLOCKING:
+                return subscribe(client, job, parsedJob, watch -> retry(invokeMethod(parsedJob, watch), job));
+            default:
+                return subscribe(client, job, parsedJob, watch -> retry(offload(client, job, parsedJob, watch), job));
+        }
+    }
+
+    /**
+     * Invoke the method on the executor. The job is checked again when it leaves
+     * the queue of the executor, it could wait there long enough to expire.
+     */
+    private Mono<?> offload(JobClient client, ActivatedJob job, ParsedActivatedJob parsedJob,
+                            JobWatchdog.Watch watch) {
+        final Mono<?> invocation = Mono.defer(() -> isExpiring(job)
+                ? Mono.fromFuture(returnExpiring(client, job)).then(Mono.error(ExpiringJobException.INSTANCE))
+                : invokeMethod(parsedJob, watch));
+        if (deadlineExecutor == null)
+            return invocation.subscribeOn(executorScheduler);
+        return subscribeByDeadline(invocation, job.getDeadline());
+    }
+
+    /**
+     * Subscribe to the invocation in a task that is ordered by the deadline of
+     * job in the queue of the executor. Every attempt submits its own task, so
+     * no scheduler is created per job.
+     */
+    private Mono<Object> subscribeByDeadline(Mono<?> invocation, long deadline) {
+        return Mono.create(sink -> {
             try {
-                final BoundExecutable boundExecutable = getBoundExecutable(job);
-                boundExecutable.invoke(bean);
-                completeJob(client, job, null);
-            } catch (Exception e) {
-                handleThrowable(client, job, e);
+                deadlineExecutor.execute(DeadlineTask.of(deadline,
+                        () -> sink.onCancel(invocation.subscribe(sink::success, sink::error, sink::success))));
+            } catch (RejectedExecutionException e) {
+                sink.error(e);
             }
+        });
+    }
+
+    /**
+     * Retry the invocation on the errors of worker method. The offloaded
+     * invocation is subscribed again on the executor, and the job is checked
+     * again before every attempt.
+     */
+    private Mono<?> retry(Mono<?> invocation, ActivatedJob job) {
+        if (retryPolicy == null)
+            return invocation;
+        return retryPolicy.retry(invocation, job, throwable -> throwable != ExpiringJobException.INSTANCE);
+    }
+
+    /**
+     * Work that is finished after the deadline is wasted, the job is activated
+     * by another worker. So the job with too little remaining time is returned
+     * to the broker instead of being started.
+     */
+    private boolean isExpiring(ActivatedJob job) {
+        if (minRemainingMillis <= 0 || job.getDeadline() - System.currentTimeMillis() >= minRemainingMillis)
+            return false;
+        logger.warn("isExpiring() >> Job: {} of worker: {} expires in less than {} ms, return it",
+                job.getKey(), configuration.getType(), minRemainingMillis);
+        return true;
+    }
+
+    private CompletableFuture<Boolean> returnExpiring(JobClient client, ActivatedJob job) {
+        return JobResultSender.acknowledged(
+                resultSender.failUnstarted(client, job, "Too little time remains before the deadline of the job"),
+                false);
+    }
+
+    /**
+     * Invoke the method on the thread of job worker. The watchdog can only
+     * interrupt the thread, the result of interrupted method is dropped.
+     */
+    private CompletableFuture<Boolean> handleDirect(JobClient client, ActivatedJob job,
+                                                    ParsedActivatedJob parsedJob) {
+        final CompletableFuture<Boolean> finished = new CompletableFuture<>();
+        handleDirect(client, job, parsedJob, watch(client, job, () -> {}), 1, finished);
+        return finished;
+    }
+
+    /**
+     * Invoke one attempt of the method on the current thread. The retry isn't
+     * waited for on this thread, which is shared by all workers, it is
+     * scheduled on the retry scheduler and is invoked there.
+     */
+    private void handleDirect(JobClient client, ActivatedJob job, ParsedActivatedJob parsedJob,
+                              JobWatchdog.Watch watch, int attempt, CompletableFuture<Boolean> finished) {
+        final Object result;
+        enter(watch);
+        try {
+            result = plan.invoke(bean, parsedJob);
+        } catch (Exception e) {
+            final long delay = (retryPolicy == null) ? -1 : retryPolicy.getDelayMillis(job, attempt, e);
+            if (delay >= 0 && scheduleRetry(() -> handleDirect(client, job, parsedJob, watch, attempt + 1, finished),
+                    delay))
+                return;
+            parsedJob.release();
+            finish(finished, () -> isInTime(watch)
+                    ? resultSender.handleThrowable(client, job, e)
+                    : CompletableFuture.completedFuture(false));
             return;
+        } finally {
+            exit(watch);
         }
-        invokeMethod(job)
-                .subscribeOn(executorScheduler)
-                .subscribe(r -> completeJob(client, job, r), throwable -> handleThrowable(client, job, throwable));
+        parsedJob.release();
+        finish(finished, () -> isInTime(watch)
+                ? JobResultSender.acknowledged(resultSender.completeJob(client, job, result), true)
+                : CompletableFuture.completedFuture(false));
+    }
 
+    /**
+     * @return false if the retry can't be scheduled, because the scheduler is
+     *         shut down
+     */
+    private boolean scheduleRetry(Runnable retry, long delayMillis) {
+        try {
+            retryScheduler.schedule(retry, delayMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            logger.debug("scheduleRetry() >> Scheduler is shut down, job of worker: {} isn't retried",
+                    configuration.getType());
+            return false;
+        }
     }
 
-    private void completeJob(final JobClient client, final ActivatedJob job, final Object r) {
-        logger.debug("completeJob() >> Send result to zeebe...");
-        if (!configuration.isAutoComplete())
-            return;
-        final Optional<?> resultContainer = (Objects.nonNull(r) && r.getClass().isAssignableFrom(Optional.class))
-                ? (Optional<?>) r
-                : Optional.ofNullable(r);
-        resultContainer.ifPresentOrElse(
-                result -> client.newCompleteCommand(job.getKey())
-                        .variables(Map.of(configuration.getOutputVariableName(), result)).send()
-                        .join(),
-                () -> client.newCompleteCommand(job.getKey()).send().join());
-    }
-
-    private void handleThrowable(final JobClient client, final ActivatedJob job, final Throwable throwable) {
-        logger.warn("handleThrowable() >> for job: {}, process id: {}, instance id: {}, cause: {}",
-                job.getType(), job.getBpmnProcessId(), job.getProcessInstanceKey(), throwable.getMessage());
-        if (!configuration.isAutoComplete())
-            return;
-        final Throwable cause = unboxThrowable(throwable);
-        final Optional<String> errorCode = getErrorCode(cause);
-        if (errorCode.isPresent()) {
-            logger.debug("handleThrowable() >> Get error with code: {}", errorCode.get());
-            client.newThrowErrorCommand(job.getKey())
-                    .errorCode(errorCode.get())
-                    .errorMessage(Optional.ofNullable(cause.getMessage())
-                            .orElse(cause.getClass().getSimpleName()))
-                    .send().join();
-            return;
+    private CompletableFuture<Boolean> subscribe(JobClient client, ActivatedJob job, ParsedActivatedJob parsedJob,
+                                              Function<JobWatchdog.Watch, Mono<?>> result) {
+        final CompletableFuture<Boolean> finished = new CompletableFuture<>();
+        final Disposable.Swap subscription = Disposables.swap();
+        final JobWatchdog.Watch watch = watch(client, job, () -> {
+            subscription.dispose();
+            finished.complete(false);
+        });
+        subscription.update(result.apply(watch)
+                .cast(Object.class)
+                .defaultIfEmpty(Optional.empty())
+                .doFinally(signal -> parsedJob.release())
+                .subscribe(r -> finish(finished, () -> isInTime(watch)
+                                ? JobResultSender.acknowledged(resultSender.completeJob(client, job, r), true)
+                                : CompletableFuture.completedFuture(false)),
+                        throwable -> finish(finished, () -> isInTime(watch)
+                                && throwable != ExpiringJobException.INSTANCE
+                                ? resultSender.handleThrowable(client, job, throwable)
+                                : CompletableFuture.completedFuture(false))));
+        return finished;
+    }
+
+    /**
+     * Complete the job when its result is acknowledged, or at once if the
+     * result can't be sent.
+     */
+    private static void finish(CompletableFuture<Boolean> finished, Supplier<CompletableFuture<Boolean>> result) {
+        try {
+            result.get().thenAccept(finished::complete);
+        } catch (RuntimeException e) {
+            finished.complete(false);
+            throw e;
         }
-        logger.debug("handleThrowable() >> Get Fail: {}", cause.getMessage());
-        client.newFailCommand(job.getKey())
-                .retries(job.getRetries() - 1)
-                .errorMessage(Optional.ofNullable(cause.getMessage())
-                        .orElse(cause.getClass().getSimpleName()))
-                .send().join();
     }
 
-    private BoundExecutable getBoundExecutable(ActivatedJob job) {
-        DefaultExecutableBinder<ActivatedJob> executableBinder = new DefaultExecutableBinder<>();
-        return executableBinder.bind(method, jobBinderRegistry, job);
+    private JobWatchdog.Watch watch(JobClient client, ActivatedJob job, Runnable cancel) {
+        return (watchdog == null)
+                ? null
+                : watchdog.watch(job, cancel, () -> resultSender.failOverdue(client, job));
     }
 
-    private Mono<?> invokeMethod(ActivatedJob job) {
+    /**
+     * @return true if the job isn't watched or it is finished before the
+     *         watchdog has cancelled it
+     */
+    private static boolean isInTime(@Nullable JobWatchdog.Watch watch) {
+        return watch == null || watch.finish();
+    }
+
+    private static void enter(@Nullable JobWatchdog.Watch watch) {
+        if (watch != null)
+            watch.enter();
+    }
+
+    private static void exit(@Nullable JobWatchdog.Watch watch) {
+        if (watch != null)
+            watch.exit();
+    }
+
+    /**
+     * Resolve the dispatch mode that isn't defined by worker and configuration:
+     * void methods are invoked on the thread of job worker, other methods are
+     * offloaded to the executor. The result of async and reactive methods isn't
+     * awaited on the thread of job worker, which is shared by all workers, so
+     * these methods are subscribed to without a thread hop instead of being
+     * invoked directly.
+     */
+    private static DispatchMode resolveDispatchMode(DispatchMode dispatchMode,
+                                                    JobInvocationPlan.ResultKind resultKind) {
+        if (dispatchMode == DispatchMode.DIRECT && resultKind != JobInvocationPlan.ResultKind.VOID
+                && resultKind != JobInvocationPlan.ResultKind.SYNC)
+            return DispatchMode.NONBLOCKING;
+        if (dispatchMode != null && dispatchMode != DispatchMode.DEFAULT)
+            return dispatchMode;
+        return (resultKind == JobInvocationPlan.ResultKind.VOID)
+                ? DispatchMode.DIRECT
+                : DispatchMode.OFFLOAD;
+    }
+
+    private Mono<?> invokeMethod(ActivatedJob job, @Nullable JobWatchdog.Watch watch) {
         logger.debug("invokeMethod() >> Try to handle result...");
-        final BoundExecutable boundExecutable = getBoundExecutable(job);
-        if (method.getReturnType().isAsync()) {
-            logger.debug("invokeMethod() >> handle completable future...");
-            return Mono.fromFuture((CompletableFuture<?>) boundExecutable.invoke(bean));
-        } else if (method.getReturnType().isReactive()) {
-            if (method.getReturnType().getType().isAssignableFrom(Mono.class)) {
+        switch (plan.getResultKind()) {
+            case VOID:
+                logger.debug("invokeMethod() >> handle void result...");
+                return Mono.fromRunnable(() -> invoke(job, watch));
+            case ASYNC:
+                logger.debug("invokeMethod() >> handle completable future...");
+                return Mono.defer(() -> Mono.fromFuture((CompletableFuture<?>) invoke(job, watch)));
+            case MONO:
                 logger.debug("invokeMethod() >> handle single...");
-                return (Mono<?>) boundExecutable.invoke(bean);
-            }
-            logger.debug("invokeMethod() >> handle flowable...");
-            return ((Flux<?>) boundExecutable.invoke(bean)).collectList();
-        } else {
-            logger.debug("invokeMethod() >> handle sync result...");
-            return Mono.fromCallable(() -> boundExecutable.invoke(bean));
+                return Mono.defer(() -> Mono.from((Publisher<?>) invoke(job, watch)));
+            case FLUX:
+                logger.debug("invokeMethod() >> handle flowable...");
+                return Mono.defer(() -> Flux.from((Publisher<?>) invoke(job, watch)).collectList());
+            default:
+                logger.debug("invokeMethod() >> handle sync result...");
+                return Mono.fromCallable(() -> invoke(job, watch));
         }
     }
 
-    private Throwable unboxThrowable(final Throwable throwable) {
-        if (throwable instanceof ExecutionException || throwable instanceof CompletionException) {
-            return (throwable.getCause() == null)
-                    ? throwable
-                    : unboxThrowable(throwable.getCause());
-        } else {
-            return throwable;
+    /**
+     * Invoke the method, its thread can be interrupted by the watchdog meanwhile.
+     */
+    private Object invoke(ActivatedJob job, @Nullable JobWatchdog.Watch watch) {
+        enter(watch);
+        try {
+            return plan.invoke(bean, job);
+        } finally {
+            exit(watch);
         }
     }
 
-    private Optional<String> getErrorCode(final Throwable t) {
-        final Map<String, List<Class<? extends Throwable>>> errors = configuration.getErrors();
-        return errors.entrySet().stream()
-                .filter(entry -> entry.getValue().stream().anyMatch(error -> error.isInstance(t)))
-                .map(Map.Entry::getKey)
-                .findFirst();
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    /**
+     * Signals that the job was returned to the broker when it left the queue.
+     */
+    private static final class ExpiringJobException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+        private static final ExpiringJobException INSTANCE = new ExpiringJobException();
+
+        private ExpiringJobException() {
+            super("Job is expiring", null, false, false);
+        }
     }
 }
@@ -0,0 +1,62 @@
+package io.micronaut.configuration.zeebe.core.indicator;
+
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.configuration.zeebe.core.executor.WorkerExecutor;
+import io.micronaut.configuration.zeebe.core.handler.JobWatchdog;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.HealthResult;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Saturation of the executor of module: queue depth, active and pooled threads
+ * and the count of rejected tasks. If the watchdog of jobs is enabled, the
+ * counts of watched and overdue jobs are reported too.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+@Singleton
+@Requires(beans = ZeebeConfiguration.class)
+@Requires(property = "zeebe.health.enabled", value = "true", defaultValue = "false")
+public class ZeebeExecutorIndicator implements HealthIndicator {
+
+    public static final String NAME = "zeebe-executor";
+    private final WorkerExecutor workerExecutor;
+    private final JobWatchdog watchdog;
+
+    @Inject
+    public ZeebeExecutorIndicator(WorkerExecutor workerExecutor, @Nullable JobWatchdog watchdog) {
+        this.workerExecutor = workerExecutor;
+        this.watchdog = watchdog;
+    }
+
+    @Override
+    public Publisher<HealthResult> getResult() {
+        return Mono.fromCallable(() -> {
+            final Map<String, Object> details = new LinkedHashMap<>();
+            details.put("type", workerExecutor.getType());
+            details.put("queueDepth", workerExecutor.getQueueDepth());
+            details.put("activeCount", workerExecutor.getActiveCount());
+            details.put("poolSize", workerExecutor.getPoolSize());
+            details.put("rejectedCount", workerExecutor.getRejectedCount());
+            if (watchdog != null) {
+                details.put("watchedJobs", watchdog.getWatchedCount());
+                details.put("overdueJobs", watchdog.getOverdueCount());
+                details.put("interruptedJobs", watchdog.getInterruptedCount());
+                details.put("failedOverdueJobs", watchdog.getFailedCount());
+            }
+            return HealthResult.builder(NAME, HealthStatus.UP)
+                    .details(details)
+                    .build();
+        });
+    }
+}
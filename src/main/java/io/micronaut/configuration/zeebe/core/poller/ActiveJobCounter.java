@@ -0,0 +1,52 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Count of active jobs of one worker type. It outlives the pollers of the
+ * type: when the worker is stopped, restarted or reopened after a lost
+ * connection, the new poller takes over the jobs of the old one, so the
+ * concurrency limit holds while they are still in work. A released job wakes
+ * up the poller that is open now, not the one that activated it.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class ActiveJobCounter {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private volatile Runnable onRelease = () -> {
+    };
+
+    /**
+     * @return the count of active jobs
+     */
+    public int get() {
+        return count.get();
+    }
+
+    /**
+     * Count the activated jobs.
+     *
+     * @param jobs Count of jobs
+     */
+    public void add(int jobs) {
+        count.addAndGet(jobs);
+    }
+
+    /**
+     * Release the job that is finished and wake up the open poller.
+     */
+    public void release() {
+        count.decrementAndGet();
+        onRelease.run();
+    }
+
+    /**
+     * @param onRelease Action that is run when a job is released, it replaces
+     *                  the action of the previous poller
+     */
+    void onRelease(Runnable onRelease) {
+        this.onRelease = onRelease;
+    }
+}
@@ -0,0 +1,84 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limit of active jobs that is adapted by AIMD (additive increase,
+ * multiplicative decrease). While the jobs are finished in usual time, the
+ * limit grows by one per window of {@code limit} jobs. When the latency of a
+ * job exceeds the tolerated multiple of the average latency, the job is failed
+ * or the executor is saturated, the limit is multiplied by the backoff ratio.
+ * After a decrease the next one is possible only after a window of jobs, so a
+ * burst of slow jobs cuts the limit once. The limit is raised only if it is
+ * used, at least half of it is active.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class AdaptiveConcurrencyLimit implements ConcurrencyLimit {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimit.class);
+    // Weight of a new sample in the average latency
+    private static final double LATENCY_SMOOTHING = 0.05;
+    private final String type;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final BooleanSupplier saturated;
+    private double limit;
+    private double averageLatency;
+    private int cooldown;
+    private volatile int currentLimit;
+
+    /**
+     * @param type             Type of worker
+     * @param initialLimit     Limit at start
+     * @param minLimit         Min limit
+     * @param maxLimit         Max limit
+     * @param backoffRatio     Ratio by which the limit is multiplied on decrease
+     * @param latencyTolerance Multiple of the average latency that is a spike
+     * @param saturated        Returns true if the executor of worker is saturated
+     */
+    public AdaptiveConcurrencyLimit(String type, int initialLimit, int minLimit, int maxLimit,
+                                    double backoffRatio, double latencyTolerance, BooleanSupplier saturated) {
+        this.type = type;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.saturated = saturated;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.currentLimit = (int) this.limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    @Override
+    public synchronized void onSample(long latencyNanos, boolean succeeded, int activeJobs) {
+        final boolean spike = averageLatency > 0 && latencyNanos > averageLatency * latencyTolerance;
+        averageLatency = (averageLatency == 0)
+                ? latencyNanos
+                : averageLatency + LATENCY_SMOOTHING * (latencyNanos - averageLatency);
+        if (cooldown > 0)
+            cooldown--;
+
+        if (!succeeded || spike || saturated.getAsBoolean()) {
+            if (cooldown > 0)
+                return;
+            limit = Math.max(minLimit, limit * backoffRatio);
+            cooldown = (int) limit;
+            logger.debug("onSample() >> Decrease limit of worker: {} to: {}, failed: {}, latency spike: {}",
+                    type, (int) limit, !succeeded, spike);
+        } else if (activeJobs * 2 >= currentLimit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+        currentLimit = (int) limit;
+    }
+}
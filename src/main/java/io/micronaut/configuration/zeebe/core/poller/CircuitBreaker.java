@@ -0,0 +1,154 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Circuit breaker of a worker, it wraps the concurrency limit of the worker.
+ * While the breaker is closed, the outcomes of jobs are counted in a sliding
+ * window of the last {@code windowSize} jobs. When the window is full and the
+ * part of failed jobs reaches the threshold, the breaker opens: the limit
+ * falls to 0 and the listener stops the worker, so no jobs are activated only
+ * to be failed while the downstream of worker is down. After the open
+ * duration the breaker is {@link #halfOpen() half-open}: the worker probes
+ * the downstream with up to {@code halfOpenJobs} jobs in work. If all of them
+ * succeed, the breaker closes, a failed probe opens it again.
+ * <p>
+ * Business errors of jobs aren't failures, only failed jobs are counted.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class CircuitBreaker implements ConcurrencyLimit {
+
+    /**
+     * State of the breaker
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private final String type;
+    private final ConcurrencyLimit delegate;
+    private final double failureRateThreshold;
+    private final int halfOpenJobs;
+    private final Consumer<CircuitBreaker> onOpen;
+    // Outcomes of the last jobs, true if the job is failed
+    private final boolean[] window;
+    private int position;
+    private int size;
+    private int failures;
+    private int probes;
+    private volatile State state = State.CLOSED;
+
+    /**
+     * @param type                 Type of worker
+     * @param delegate             Limit of active jobs while the breaker is closed
+     * @param windowSize           Count of last jobs whose failure rate is measured
+     * @param failureRateThreshold Part of failed jobs, from 0 to 1, at which the
+     *                             breaker opens
+     * @param halfOpenJobs         Max count of active jobs while the breaker is
+     *                             half-open, and count of succeeded jobs to close it
+     * @param onOpen               Called when the breaker opens, it must stop the
+     *                             worker and make the breaker half-open later
+     */
+    public CircuitBreaker(String type, ConcurrencyLimit delegate, int windowSize, double failureRateThreshold,
+                          int halfOpenJobs, Consumer<CircuitBreaker> onOpen) {
+        this.type = type;
+        this.delegate = delegate;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.failureRateThreshold = failureRateThreshold;
+        this.halfOpenJobs = Math.max(1, halfOpenJobs);
+        this.onOpen = onOpen;
+    }
+
+    @Override
+    public int getLimit() {
+        switch (state) {
+            case OPEN:
+                return 0;
+            case HALF_OPEN:
+                return Math.min(halfOpenJobs, delegate.getLimit());
+            default:
+                return delegate.getLimit();
+        }
+    }
+
+    @Override
+    public void onSample(long latencyNanos, boolean succeeded, int activeJobs) {
+        final boolean opened;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    delegate.onSample(latencyNanos, succeeded, activeJobs);
+                    opened = record(!succeeded);
+                    break;
+                case HALF_OPEN:
+                    opened = probe(succeeded);
+                    break;
+                default:
+                    // Jobs that were in work when the breaker opened
+                    opened = false;
+            }
+        }
+        if (opened)
+            onOpen.accept(this);
+    }
+
+    /**
+     * Let the worker probe the downstream, it is called after the open
+     * duration.
+     */
+    public synchronized void halfOpen() {
+        if (state != State.OPEN)
+            return;
+        logger.info("halfOpen() >> Circuit breaker of worker: {} is half-open, probe with {} jobs",
+                type, halfOpenJobs);
+        probes = 0;
+        state = State.HALF_OPEN;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private boolean record(boolean failed) {
+        if (size == window.length) {
+            if (window[position])
+                failures--;
+        } else {
+            size++;
+        }
+        window[position] = failed;
+        if (failed)
+            failures++;
+        position = (position + 1) % window.length;
+        if (size < window.length || failures < failureRateThreshold * window.length)
+            return false;
+        logger.warn("record() >> Circuit breaker of worker: {} is open, {} of last {} jobs are failed",
+                type, failures, window.length);
+        state = State.OPEN;
+        return true;
+    }
+
+    private boolean probe(boolean succeeded) {
+        if (!succeeded) {
+            logger.warn("probe() >> Probe of worker: {} is failed, circuit breaker is open again", type);
+            state = State.OPEN;
+            return true;
+        }
+        if (++probes < halfOpenJobs)
+            return false;
+        logger.info("probe() >> Circuit breaker of worker: {} is closed", type);
+        position = 0;
+        size = 0;
+        failures = 0;
+        state = State.CLOSED;
+        return false;
+    }
+}
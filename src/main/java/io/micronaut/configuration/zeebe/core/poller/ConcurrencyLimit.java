@@ -0,0 +1,34 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+/**
+ * Limit of count of jobs of a worker in work.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * @return the current max count of active jobs
+     */
+    int getLimit();
+
+    /**
+     * Called when a job is finished.
+     *
+     * @param latencyNanos Time from start of handling of the job until it is finished
+     * @param succeeded    False if the job is failed
+     * @param activeJobs   Count of jobs that were active when the job was finished
+     */
+    default void onSample(long latencyNanos, boolean succeeded, int activeJobs) {
+    }
+
+    /**
+     * @param limit Max count of active jobs
+     * @return Limit that doesn't change
+     */
+    static ConcurrencyLimit fixed(int limit) {
+        final int value = Math.max(1, limit);
+        return () -> value;
+    }
+}
@@ -0,0 +1,188 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.handler.JobCompletionDispatcher;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Parameters of a {@link ZeebeJobPoller}. The client, configuration, name of
+ * worker, concurrency limit and scheduler are required. By default the poller
+ * doesn't use long polling, isn't limited by a poll budget, hands the jobs
+ * over to the scheduler, doesn't limit the rate of keys and counts only its
+ * own active jobs.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class JobPollerOptions {
+
+    private final ZeebeClient client;
+    private final WorkerConfiguration configuration;
+    private final String workerName;
+    private final ConcurrencyLimit limit;
+    private final ScheduledExecutorService scheduler;
+    private final boolean longPolling;
+    private final PollBudget budget;
+    private final Executor handoff;
+    private final KeyedRateLimiter keyRateLimiter;
+    private final ActiveJobCounter activeJobs;
+    private final JobCompletionDispatcher completionDispatcher;
+
+    private JobPollerOptions(Builder builder) {
+        this.client = builder.client;
+        this.configuration = builder.configuration;
+        this.workerName = builder.workerName;
+        this.limit = builder.limit;
+        this.scheduler = builder.scheduler;
+        this.longPolling = builder.longPolling;
+        this.budget = builder.budget;
+        this.handoff = (builder.handoff == null) ? builder.scheduler : builder.handoff;
+        this.keyRateLimiter = builder.keyRateLimiter;
+        this.activeJobs = (builder.activeJobs == null) ? new ActiveJobCounter() : builder.activeJobs;
+        this.completionDispatcher = builder.completionDispatcher;
+    }
+
+    /**
+     * @param client        Zeebe client
+     * @param configuration Configuration of worker
+     * @param workerName    Name of worker, that is passed to the broker
+     * @param limit         Limit of count of jobs in work
+     * @param scheduler     Executor that polls the broker and calls the handler
+     * @return Builder of options
+     */
+    public static Builder builder(ZeebeClient client, WorkerConfiguration configuration, String workerName,
+                                  ConcurrencyLimit limit, ScheduledExecutorService scheduler) {
+        return new Builder(client, configuration, workerName, limit, scheduler);
+    }
+
+    public ZeebeClient getClient() {
+        return client;
+    }
+
+    public WorkerConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public String getWorkerName() {
+        return workerName;
+    }
+
+    public ConcurrencyLimit getLimit() {
+        return limit;
+    }
+
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    public boolean isLongPolling() {
+        return longPolling;
+    }
+
+    public PollBudget getBudget() {
+        return budget;
+    }
+
+    public Executor getHandoff() {
+        return handoff;
+    }
+
+    @Nullable
+    public KeyedRateLimiter getKeyRateLimiter() {
+        return keyRateLimiter;
+    }
+
+    public ActiveJobCounter getActiveJobs() {
+        return activeJobs;
+    }
+
+    @Nullable
+    public JobCompletionDispatcher getCompletionDispatcher() {
+        return completionDispatcher;
+    }
+
+    /**
+     * Builder of {@link JobPollerOptions}
+     */
+    public static final class Builder {
+
+        private final ZeebeClient client;
+        private final WorkerConfiguration configuration;
+        private final String workerName;
+        private final ConcurrencyLimit limit;
+        private final ScheduledExecutorService scheduler;
+        private boolean longPolling;
+        private PollBudget budget = PollBudget.unlimited();
+        private Executor handoff;
+        private KeyedRateLimiter keyRateLimiter;
+        private ActiveJobCounter activeJobs;
+        private JobCompletionDispatcher completionDispatcher;
+
+        private Builder(ZeebeClient client, WorkerConfiguration configuration, String workerName,
+                        ConcurrencyLimit limit, ScheduledExecutorService scheduler) {
+            this.client = Objects.requireNonNull(client);
+            this.configuration = Objects.requireNonNull(configuration);
+            this.workerName = Objects.requireNonNull(workerName);
+            this.limit = Objects.requireNonNull(limit);
+            this.scheduler = Objects.requireNonNull(scheduler);
+        }
+
+        /**
+         * @param longPolling Hold idle activation on the gateway for the backoff
+         *                    delay instead of waiting before the next request
+         */
+        public Builder longPolling(boolean longPolling) {
+            this.longPolling = longPolling;
+            return this;
+        }
+
+        /**
+         * @param budget Budget of activation requests of the client
+         */
+        public Builder budget(PollBudget budget) {
+            this.budget = Objects.requireNonNull(budget);
+            return this;
+        }
+
+        /**
+         * @param handoff Executor to which the activated jobs are handed over,
+         *                e.g. {@link io.micronaut.configuration.zeebe.core.executor.RingBufferDispatcher}
+         */
+        public Builder handoff(Executor handoff) {
+            this.handoff = handoff;
+            return this;
+        }
+
+        /**
+         * @param keyRateLimiter       Rate limit of jobs per key, the job whose
+         *                             key has reached the rate waits for its
+         *                             permit as an active job
+         * @param completionDispatcher Dispatcher through which the jobs of
+         *                             saturated keys are returned to the broker
+         */
+        public Builder keyRateLimiter(@Nullable KeyedRateLimiter keyRateLimiter,
+                                      JobCompletionDispatcher completionDispatcher) {
+            this.keyRateLimiter = keyRateLimiter;
+            this.completionDispatcher = Objects.requireNonNull(completionDispatcher);
+            return this;
+        }
+
+        /**
+         * @param activeJobs Count of active jobs of the type, the pollers that
+         *                   replace each other share it
+         */
+        public Builder activeJobs(ActiveJobCounter activeJobs) {
+            this.activeJobs = activeJobs;
+            return this;
+        }
+
+        public JobPollerOptions build() {
+            return new JobPollerOptions(this);
+        }
+    }
+}
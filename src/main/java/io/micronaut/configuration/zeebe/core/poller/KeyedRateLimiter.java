@@ -0,0 +1,69 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Rate limit of jobs per key, e.g. per tenant or per account of a downstream
+ * service. Every key has its own {@link RateLimiter}, the key of job is taken
+ * from its variable or custom header, the jobs without a key share one limiter.
+ * The limiters of keys that are idle are dropped when there are too many keys.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class KeyedRateLimiter {
+
+    private static final Object NO_KEY = new Object();
+    private static final int MAX_KEYS = 10_000;
+    private final double permitsPerSecond;
+    private final Function<ActivatedJob, Object> keyExtractor;
+    private final Map<Object, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param permitsPerSecond Rate of jobs of one key
+     * @param keyExtractor     Extracts the key from the job, returns null if the
+     *                         job has no key
+     */
+    public KeyedRateLimiter(double permitsPerSecond, Function<ActivatedJob, Object> keyExtractor) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Reserve the permit for the job, if the key of job has at most the given
+     * count of jobs waiting for their permits. So a throttled key can't take
+     * all slots of the worker.
+     *
+     * @param job       Activated job
+     * @param maxQueued Max count of jobs of the key that wait for permits
+     * @return Time in nanoseconds after which the job can be started, 0 if it can
+     *         be started at once, -1 if the key is saturated and the permit isn't
+     *         reserved
+     */
+    public long tryReserve(ActivatedJob job, int maxQueued) {
+        return getLimiter(job).tryReserve(maxQueued * getIntervalNanos());
+    }
+
+    /**
+     * @return the interval between permits of one key in nanoseconds
+     */
+    public long getIntervalNanos() {
+        return Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+    }
+
+    private RateLimiter getLimiter(ActivatedJob job) {
+        final Object key = Objects.requireNonNullElse(keyExtractor.apply(job), NO_KEY);
+        final RateLimiter limiter = limiters.get(key);
+        if (limiter != null)
+            return limiter;
+        if (limiters.size() >= MAX_KEYS)
+            limiters.values().removeIf(RateLimiter::isIdle);
+        return limiters.computeIfAbsent(key, k -> new RateLimiter(permitsPerSecond, 1));
+    }
+}
@@ -0,0 +1,52 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Interval of polling of jobs that grows exponentially while the activations
+ * return no jobs, up to the max interval, and falls back to the min interval
+ * as soon as jobs are returned. The poller calls it from one thread at a time.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class PollBackoff {
+
+    private final long minMillis;
+    private final long maxMillis;
+    private final double multiplier;
+    private volatile long currentMillis;
+
+    /**
+     * @param minInterval Poll interval of busy worker
+     * @param maxInterval Max poll interval of idle worker, if it is null, the
+     *                    interval doesn't grow
+     * @param multiplier  Multiplier of interval after empty activation
+     */
+    public PollBackoff(Duration minInterval, @Nullable Duration maxInterval, double multiplier) {
+        this.minMillis = Math.max(0, minInterval.toMillis());
+        this.maxMillis = (maxInterval == null)
+                ? minMillis
+                : Math.max(minMillis, maxInterval.toMillis());
+        this.multiplier = Math.max(1, multiplier);
+        this.currentMillis = minMillis;
+    }
+
+    /**
+     * Reset the interval, when the activation returns jobs.
+     */
+    public void reset() {
+        currentMillis = minMillis;
+    }
+
+    /**
+     * @return the interval before the next poll after an empty activation
+     */
+    public Duration next() {
+        final long interval = currentMillis;
+        currentMillis = Math.min(maxMillis, Math.max(interval + 1, (long) (interval * multiplier)));
+        return Duration.ofMillis(interval);
+    }
+}
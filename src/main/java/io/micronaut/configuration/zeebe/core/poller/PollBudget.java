@@ -0,0 +1,65 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+/**
+ * Budget of activation requests that is shared by all workers of a client. It
+ * is a token bucket that is refilled at the rate of requests per second. A
+ * worker with weight 1 can take a token whenever the bucket isn't empty, a
+ * worker with less weight can take it only if more tokens are left in the
+ * bucket. So when the budget is scarce, the tokens are kept for the busy
+ * workers, and the idle workers are polled rarely.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class PollBudget {
+
+    // Part of the bucket that is kept for workers with max weight
+    private static final double RESERVE = 0.5;
+    private static final PollBudget UNLIMITED = new PollBudget(0, 0);
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * @param requestsPerSecond Rate of activation requests
+     * @param burst             Max count of requests that can be sent at once
+     */
+    public PollBudget(double requestsPerSecond, int burst) {
+        this.tokensPerNano = requestsPerSecond / 1_000_000_000d;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * @return Budget without limit
+     */
+    public static PollBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Try to take a token for an activation request.
+     *
+     * @param weight Weight of worker, from 0 to 1, it depends on the yield of
+     *               recent activations and the priority of worker
+     * @return 0 if the token is taken, otherwise the time in nanoseconds after
+     *         which the worker should try again
+     */
+    public long tryAcquire(double weight) {
+        if (this == UNLIMITED)
+            return 0;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+            final double required = 1 + (1 - Math.max(0, Math.min(1, weight))) * (capacity - 1) * RESERVE;
+            if (tokens >= required) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((required - tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lock-free token bucket. The state of the bucket is one number, the time at
+ * which the bucket would be full again, so a permit is taken by a single CAS
+ * and the bucket never needs a refill task. The bucket holds up to
+ * {@code burst} permits and is refilled at the rate of permits per second.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class RateLimiter {
+
+    private static final Pattern RATE = Pattern.compile("\\s*(\\d+(?:\\.\\d+)?)\\s*/\\s*(\\d*)\\s*(ms|s|m|h)\\s*");
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long origin = System.nanoTime();
+    // Theoretical time of the next permit, relative to origin
+    private final AtomicLong nextPermitAt = new AtomicLong();
+
+    /**
+     * @param permitsPerSecond Rate of permits
+     * @param burst            Max count of permits that can be taken at once
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0))
+            throw new IllegalArgumentException("Rate must be positive");
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = (Math.max(1, burst) - 1) * intervalNanos;
+    }
+
+    /**
+     * Parse the rate, e.g. {@code 200/s}, {@code 10/m} or {@code 5/10s}.
+     *
+     * @param rate Count of permits per period, the period is one of ms, s, m
+     *             or h, optionally with a multiplier
+     * @return Permits per second
+     * @throws IllegalArgumentException if the rate can't be parsed
+     */
+    public static double parseRate(String rate) {
+        final Matcher matcher = RATE.matcher(rate.toLowerCase(Locale.ROOT));
+        if (!matcher.matches())
+            throw new IllegalArgumentException(String.format("Invalid rate: %s, expected e.g. 200/s", rate));
+        final double permits = Double.parseDouble(matcher.group(1));
+        final long multiplier = matcher.group(2).isEmpty() ? 1 : Long.parseLong(matcher.group(2));
+        final long periodMillis;
+        switch (matcher.group(3)) {
+            case "ms":
+                periodMillis = multiplier;
+                break;
+            case "s":
+                periodMillis = TimeUnit.SECONDS.toMillis(multiplier);
+                break;
+            case "m":
+                periodMillis = TimeUnit.MINUTES.toMillis(multiplier);
+                break;
+            default:
+                periodMillis = TimeUnit.HOURS.toMillis(multiplier);
+        }
+        if (permits <= 0 || periodMillis <= 0)
+            throw new IllegalArgumentException(String.format("Invalid rate: %s, it must be positive", rate));
+        return permits * 1000 / periodMillis;
+    }
+
+    /**
+     * Take as many permits as there are in the bucket, up to the count.
+     *
+     * @param permits Max count of permits
+     * @return Count of taken permits, 0 if the bucket is empty
+     */
+    public int tryAcquire(int permits) {
+        while (true) {
+            final long now = now();
+            final long next = nextPermitAt.get();
+            final long base = Math.max(next, now);
+            final long slack = toleranceNanos - (base - now);
+            if (slack < 0)
+                return 0;
+            final int taken = (int) Math.min(permits, slack / intervalNanos + 1);
+            if (taken <= 0)
+                return 0;
+            if (nextPermitAt.compareAndSet(next, base + taken * intervalNanos))
+                return taken;
+        }
+    }
+
+    /**
+     * Reserve the next permit, if it is available within the max wait. The
+     * reservations are served in the order in which they are made.
+     *
+     * @param maxWaitNanos Max time in nanoseconds for which the caller can wait
+     * @return Time in nanoseconds after which the permit can be used, 0 if it can
+     *         be used at once, -1 if the permit isn't reserved because it isn't
+     *         available within the max wait
+     */
+    public long tryReserve(long maxWaitNanos) {
+        while (true) {
+            final long now = now();
+            final long next = nextPermitAt.get();
+            final long base = Math.max(next, now);
+            final long wait = Math.max(0, base - now - toleranceNanos);
+            if (wait > maxWaitNanos)
+                return -1;
+            if (nextPermitAt.compareAndSet(next, base + intervalNanos))
+                return wait;
+        }
+    }
+
+    /**
+     * Return the permits that were taken, but not used.
+     *
+     * @param permits Count of permits
+     */
+    public void release(int permits) {
+        if (permits > 0)
+            nextPermitAt.addAndGet(-permits * intervalNanos);
+    }
+
+    /**
+     * @return Time in nanoseconds after which a permit is available, 0 if it is
+     *         available now
+     */
+    public long getWaitNanos() {
+        final long now = now();
+        return Math.max(0, nextPermitAt.get() - now - toleranceNanos);
+    }
+
+    /**
+     * @return true if the bucket is full, so the limiter can be dropped without
+     *         loss of its state
+     */
+    public boolean isIdle() {
+        return nextPermitAt.get() <= now();
+    }
+
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+}
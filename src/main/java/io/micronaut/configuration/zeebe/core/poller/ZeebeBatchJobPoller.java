@@ -0,0 +1,260 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.handler.ZeebeBatchJobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Job worker that collects activated jobs of one type into batches and passes
+ * every batch to the batch handler. A batch is handed over when it has
+ * {@code batchSize} jobs or when the linger time of its first job has passed.
+ * While a batch is collected, the activation request asks only for the
+ * missing jobs and the gateway holds it no longer than the rest of the linger
+ * time, so a batch is filled by as few requests as possible.
+ * <p>
+ * One batch is in work at a time, the next one is collected meanwhile and is
+ * handed over as soon as the previous batch is finished. So the jobs in work
+ * are bounded by two batches, and the poller doesn't use the concurrency limit,
+ * rate limits or circuit breaker of the single job worker.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class ZeebeBatchJobPoller implements JobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZeebeBatchJobPoller.class);
+    private static final double MIN_WEIGHT = 0.05;
+    private final ZeebeClient client;
+    private final WorkerConfiguration configuration;
+    private final String workerName;
+    private final ZeebeBatchJobHandler handler;
+    private final ScheduledExecutorService scheduler;
+    private final PollBackoff backoff;
+    private final PollBudget budget;
+    private final double priority;
+    private final int batchSize;
+    private final long lingerNanos;
+    // Jobs that are activated but not yet handed over, or in work
+    private final AtomicInteger activeJobs = new AtomicInteger();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final AtomicBoolean open = new AtomicBoolean();
+    // Guarded by this
+    private List<ActivatedJob> pending;
+    private long lingerDeadline;
+    private boolean batchInWork;
+
+    /**
+     * @param client        Zeebe client
+     * @param configuration Configuration of batch worker
+     * @param workerName    Name of worker, that is passed to the broker
+     * @param handler       Handler of batches
+     * @param scheduler     Executor that polls the broker
+     * @param budget        Budget of activation requests of the client
+     */
+    public ZeebeBatchJobPoller(ZeebeClient client, WorkerConfiguration configuration, String workerName,
+                               ZeebeBatchJobHandler handler, ScheduledExecutorService scheduler,
+                               PollBudget budget) {
+        this.client = client;
+        this.configuration = configuration;
+        this.workerName = workerName;
+        this.handler = handler;
+        this.scheduler = scheduler;
+        this.budget = budget;
+        this.backoff = new PollBackoff(configuration.getPollInterval(), configuration.getMaxPollInterval(),
+                configuration.getPollBackoffMultiplier());
+        this.priority = (double) configuration.getPollPriority() / WorkerConfiguration.DEFAULT_POLL_PRIORITY;
+        this.batchSize = Math.max(1, configuration.getBatchSize());
+        this.lingerNanos = configuration.getBatchLinger().toNanos();
+        this.pending = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Start polling of jobs
+     *
+     * @return this poller
+     */
+    public ZeebeBatchJobPoller open() {
+        if (open.compareAndSet(false, true))
+            schedulePoll(Duration.ZERO);
+        return this;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return !open.get() && activeJobs.get() == 0;
+    }
+
+    /**
+     * Stop polling of jobs, the collected jobs are handed over without waiting
+     * for the batch to be filled.
+     */
+    @Override
+    public void close() {
+        if (open.compareAndSet(true, false))
+            schedulePoll(Duration.ZERO);
+    }
+
+    /**
+     * @return the count of jobs that are collected or in work
+     */
+    public int getActiveJobs() {
+        return activeJobs.get();
+    }
+
+    private void poll() {
+        handOver();
+        while (shouldPoll() && polling.compareAndSet(false, true)) {
+            if (shouldPoll()) {
+                final long wait = budget.tryAcquire(Math.max(MIN_WEIGHT, priority));
+                if (wait > 0) {
+                    schedule(this::retryPoll, wait, TimeUnit.NANOSECONDS);
+                } else {
+                    activateJobs();
+                }
+                return;
+            }
+            polling.set(false);
+        }
+    }
+
+    private void retryPoll() {
+        polling.set(false);
+        poll();
+    }
+
+    private synchronized boolean shouldPoll() {
+        return isOpen() && pending.size() < batchSize;
+    }
+
+    private void activateJobs() {
+        final int count;
+        final long remainingNanos;
+        synchronized (this) {
+            count = batchSize - pending.size();
+            remainingNanos = pending.isEmpty() ? 0 : lingerDeadline - System.nanoTime();
+        }
+        // The gateway holds the request of partial batch no longer than the rest of linger time
+        final Duration requestTimeout = (remainingNanos > 0)
+                ? Duration.ofMillis(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos)))
+                : configuration.getRequestTimeout();
+        logger.trace("activateJobs() >> Activate up to {} jobs of batch worker: {}", count, configuration.getType());
+        try {
+            client.newActivateJobsCommand()
+                    .jobType(configuration.getType())
+                    .maxJobsToActivate(count)
+                    .timeout(configuration.getTimeout())
+                    .workerName(workerName)
+                    .fetchVariables(configuration.getFetchVariables())
+                    .requestTimeout(requestTimeout)
+                    .send()
+                    .whenComplete(this::onActivated);
+        } catch (RuntimeException e) {
+            onActivated(null, e);
+        }
+    }
+
+    private void onActivated(ActivateJobsResponse response, Throwable throwable) {
+        if (throwable != null) {
+            polling.set(false);
+            logger.warn("onActivated() >> Failed to activate jobs of batch worker: {}, because: {}",
+                    configuration.getType(), throwable.getMessage());
+            schedulePoll(backoff.next());
+            return;
+        }
+        final List<ActivatedJob> jobs = response.getJobs();
+        final long remainingNanos;
+        synchronized (this) {
+            if (pending.isEmpty() && !jobs.isEmpty())
+                lingerDeadline = System.nanoTime() + lingerNanos;
+            pending.addAll(jobs);
+            remainingNanos = pending.isEmpty() ? -1 : lingerDeadline - System.nanoTime();
+        }
+        activeJobs.addAndGet(jobs.size());
+        polling.set(false);
+        if (!jobs.isEmpty()) {
+            backoff.reset();
+            schedulePoll(Duration.ZERO);
+        } else if (remainingNanos >= 0) {
+            // Partial batch is handed over when its linger time has passed
+            schedulePoll(Duration.ofNanos(Math.min(remainingNanos, configuration.getPollInterval().toNanos())));
+        } else {
+            schedulePoll(backoff.next());
+        }
+    }
+
+    /**
+     * Hand over the collected jobs to the handler, if the batch is ready and
+     * there is no batch in work.
+     */
+    private void handOver() {
+        final List<ActivatedJob> batch;
+        synchronized (this) {
+            if (pending.isEmpty() || batchInWork)
+                return;
+            if (pending.size() < batchSize && isOpen() && System.nanoTime() - lingerDeadline < 0)
+                return;
+            batch = pending;
+            pending = new ArrayList<>(batchSize);
+            batchInWork = true;
+        }
+        try {
+            scheduler.execute(() -> handleBatch(batch));
+        } catch (RejectedExecutionException e) {
+            logger.warn("handOver() >> Scheduler is shut down, batch of worker: {} isn't handled",
+                    configuration.getType());
+            onBatchFinished(batch);
+        }
+    }
+
+    private void handleBatch(List<ActivatedJob> batch) {
+        handler.execute(client, batch)
+                .whenComplete((result, throwable) -> {
+                    onBatchFinished(batch);
+                    schedulePoll(Duration.ZERO);
+                });
+    }
+
+    private void onBatchFinished(List<ActivatedJob> batch) {
+        activeJobs.addAndGet(-batch.size());
+        synchronized (this) {
+            batchInWork = false;
+        }
+    }
+
+    private void schedulePoll(Duration delay) {
+        // Closed poller only hands over the collected jobs
+        schedule(this::poll, isOpen() ? delay.toNanos() : 0, TimeUnit.NANOSECONDS);
+    }
+
+    private void schedule(Runnable task, long delay, TimeUnit unit) {
+        try {
+            if (delay <= 0) {
+                scheduler.execute(task);
+            } else {
+                scheduler.schedule(task, delay, unit);
+            }
+        } catch (RejectedExecutionException e) {
+            logger.debug("schedule() >> Scheduler is shut down, stop polling of batch worker: {}",
+                    configuration.getType());
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobHandler;
+import io.camunda.zeebe.client.api.worker.JobWorker;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.handler.JobCompletionDispatcher;
+import io.micronaut.configuration.zeebe.core.handler.TrackedJobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Job worker that activates jobs of one type and passes them to the handler.
+ * Unlike the job worker of Zeebe client, a job is counted as active until the
+ * handler is finished with it and the broker has acknowledged its result, not
+ * until the handler method returns, so the count of jobs in work, including
+ * the results that wait in the completion window, never exceeds the max count
+ * of active jobs even if the worker method is asynchronous. New jobs are activated only when the count of
+ * active jobs falls to the activation threshold, and only as many as there are
+ * free slots. The max count of active jobs is defined by the
+ * {@link ConcurrencyLimit concurrency limit}, which can adapt to the latency
+ * of jobs.
+ * <p>
+ * If the activation returns no jobs, the next poll is delayed by the
+ * {@link PollBackoff poll backoff}. With long polling, the worker instead
+ * polls again at once and the gateway holds the request for the delay, so an
+ * idle worker sends one request per max poll interval and still gets a new job
+ * as soon as it is created.
+ * <p>
+ * Every activation request takes a token from the {@link PollBudget poll
+ * budget} of the client. The weight of worker in the budget is the yield of
+ * its recent activations, the part of requested jobs that were returned,
+ * scaled by its priority.
+ * <p>
+ * If the worker has a {@link RateLimiter rate limit}, the activation requests
+ * only as many jobs as there are permits, and waits for the next permit when
+ * there are none, so the jobs over the rate stay in the broker. The jobs with
+ * a {@link KeyedRateLimiter key rate limit} wait for the permit of their key
+ * as active jobs, up to a quarter of the slots per key. The jobs of a key over
+ * its share are returned to the broker, and the activation pauses for one
+ * interval of the key limit.
+ * <p>
+ * The count of active jobs is kept by the {@link ActiveJobCounter} of the
+ * type, so the poller that replaces a stopped one counts the jobs that are
+ * still in work and doesn't exceed the limit.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public class ZeebeJobPoller implements JobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZeebeJobPoller.class);
+    // Part of max active jobs, when the count of active jobs falls to it, new jobs are activated
+    private static final double ACTIVATION_THRESHOLD = 0.3;
+    // Weight of the last activation in the yield
+    private static final double YIELD_SMOOTHING = 0.2;
+    private static final double MIN_WEIGHT = 0.05;
+    // Part of max active jobs that the jobs of one key can take while they wait for permits
+    private static final int KEY_SHARE = 4;
+    private final ZeebeClient client;
+    private final WorkerConfiguration configuration;
+    private final String workerName;
+    private final JobHandler handler;
+    private final ScheduledExecutorService scheduler;
+    private final Executor handoff;
+    // Rate limit of jobs of the worker, null if the rate isn't limited
+    private final RateLimiter rateLimiter;
+    private final KeyedRateLimiter keyRateLimiter;
+    // Sends the jobs of saturated keys back to the broker, null if keys aren't limited
+    private final JobCompletionDispatcher completionDispatcher;
+    // Count of active jobs of the type, shared with the previous pollers of the type
+    private final ActiveJobCounter activeJobs;
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final AtomicBoolean open = new AtomicBoolean();
+    private final ConcurrencyLimit limit;
+    private final PollBackoff backoff;
+    private final boolean longPolling;
+    private final PollBudget budget;
+    private final double priority;
+    private volatile Duration requestTimeout;
+    private volatile double yield = 1;
+    // Count of jobs requested by the activation in progress
+    private volatile int requested;
+    // Time of System.nanoTime until which the activation waits, after a job of saturated key was returned
+    private volatile long pausedUntil = System.nanoTime();
+
+    /**
+     * @param options Parameters of the poller
+     */
+    public ZeebeJobPoller(JobPollerOptions options) {
+        this.client = options.getClient();
+        this.configuration = options.getConfiguration();
+        this.workerName = options.getWorkerName();
+        this.handler = configuration.getHandler();
+        this.limit = options.getLimit();
+        this.backoff = new PollBackoff(configuration.getPollInterval(), configuration.getMaxPollInterval(),
+                configuration.getPollBackoffMultiplier());
+        this.longPolling = options.isLongPolling();
+        this.requestTimeout = configuration.getRequestTimeout();
+        this.scheduler = options.getScheduler();
+        this.handoff = options.getHandoff();
+        this.keyRateLimiter = options.getKeyRateLimiter();
+        this.completionDispatcher = options.getCompletionDispatcher();
+        this.rateLimiter = (configuration.getRateLimit() == null)
+                ? null
+                : new RateLimiter(configuration.getRateLimit(),
+                        (int) Math.min(configuration.getMaxJobsToActivate(), Math.ceil(configuration.getRateLimit())));
+        this.budget = options.getBudget();
+        this.activeJobs = options.getActiveJobs();
+        this.priority = (double) configuration.getPollPriority() / WorkerConfiguration.DEFAULT_POLL_PRIORITY;
+    }
+
+    /**
+     * Start polling of jobs
+     *
+     * @return this poller
+     */
+    public ZeebeJobPoller open() {
+        if (open.compareAndSet(false, true)) {
+            activeJobs.onRelease(this::poll);
+            schedulePoll(Duration.ZERO);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return !open.get() && activeJobs.get() == 0;
+    }
+
+    /**
+     * Stop polling of jobs, the jobs that are already activated are finished.
+     */
+    @Override
+    public void close() {
+        open.set(false);
+    }
+
+    /**
+     * @return the count of jobs of the type in work, including the jobs of
+     *         the previous pollers of the type
+     */
+    public int getActiveJobs() {
+        return activeJobs.get();
+    }
+
+    /**
+     * @return the current max count of jobs in work
+     */
+    public int getMaxJobsActive() {
+        return limit.getLimit();
+    }
+
+    private void poll() {
+        while (shouldPoll() && polling.compareAndSet(false, true)) {
+            if (shouldPoll()) {
+                final long paused = pausedUntil - System.nanoTime();
+                if (paused > 0) {
+                    schedule(this::retryPoll, paused, TimeUnit.NANOSECONDS);
+                    return;
+                }
+                final int count = limit.getLimit() - activeJobs.get();
+                if (count <= 0) {
+                    polling.set(false);
+                    return;
+                }
+                // Jobs aren't activated beyond the rate limit, so they don't wait for permits and expire
+                final int permitted = (rateLimiter == null) ? count : rateLimiter.tryAcquire(count);
+                if (rateLimiter != null && permitted == 0) {
+                    schedule(this::retryPoll, rateLimiter.getWaitNanos(), TimeUnit.NANOSECONDS);
+                    return;
+                }
+                final long wait = budget.tryAcquire(Math.max(MIN_WEIGHT, yield * priority));
+                if (wait > 0) {
+                    releasePermits(permitted);
+                    // The poll stays in progress until the budget allows it
+                    schedule(this::retryPoll, wait, TimeUnit.NANOSECONDS);
+                } else {
+                    activateJobs(permitted);
+                }
+                return;
+            }
+            polling.set(false);
+        }
+    }
+
+    private void retryPoll() {
+        polling.set(false);
+        poll();
+    }
+
+    private boolean shouldPoll() {
+        final int max = limit.getLimit();
+        return isOpen() && activeJobs.get() <= Math.min(max - 1, (int) (max * ACTIVATION_THRESHOLD));
+    }
+
+    private void activateJobs(int count) {
+        logger.trace("activateJobs() >> Activate up to {} jobs of worker: {}", count, configuration.getType());
+        requested = count;
+        try {
+            client.newActivateJobsCommand()
+                    .jobType(configuration.getType())
+                    .maxJobsToActivate(count)
+                    .timeout(configuration.getTimeout())
+                    .workerName(workerName)
+                    .fetchVariables(configuration.getFetchVariables())
+                    .requestTimeout(requestTimeout)
+                    .send()
+                    .whenComplete(this::onActivated);
+        } catch (RuntimeException e) {
+            onActivated(null, e);
+        }
+    }
+
+    private void onActivated(ActivateJobsResponse response, Throwable throwable) {
+        if (throwable != null) {
+            releasePermits(requested);
+            polling.set(false);
+            logger.warn("onActivated() >> Failed to activate jobs of worker: {}, because: {}",
+                    configuration.getType(), throwable.getMessage());
+            requestTimeout = configuration.getRequestTimeout();
+            schedulePoll(backoff.next());
+            return;
+        }
+        final List<ActivatedJob> jobs = response.getJobs();
+        releasePermits(requested - jobs.size());
+        yield += YIELD_SMOOTHING * ((double) jobs.size() / Math.max(1, requested) - yield);
+        activeJobs.add(jobs.size());
+        polling.set(false);
+        for (ActivatedJob job : jobs) {
+            execute(() -> handleJob(job));
+        }
+        if (!jobs.isEmpty()) {
+            backoff.reset();
+            requestTimeout = configuration.getRequestTimeout();
+            schedulePoll(Duration.ZERO);
+        } else if (longPolling) {
+            final Duration delay = backoff.next();
+            if (delay.compareTo(configuration.getRequestTimeout()) > 0)
+                requestTimeout = delay;
+            schedulePoll(Duration.ZERO);
+        } else {
+            schedulePoll(backoff.next());
+        }
+    }
+
+    private void releasePermits(int permits) {
+        if (rateLimiter != null)
+            rateLimiter.release(permits);
+    }
+
+    /**
+     * Start the job when the rate limit of its key allows it. A key may hold
+     * only a part of the slots with waiting jobs, the job of saturated key or
+     * the job that would expire before its permit is returned to the broker,
+     * and the activation pauses for the interval of key permits, so the
+     * returned jobs aren't activated again at once.
+     */
+    private void handleJob(ActivatedJob job) {
+        if (keyRateLimiter != null) {
+            final long wait = keyRateLimiter.tryReserve(job, Math.max(1, limit.getLimit() / KEY_SHARE));
+            if (wait < 0) {
+                returnJob(job, "Rate limit of the key of job is saturated");
+                return;
+            }
+            if (wait > 0) {
+                if (TimeUnit.NANOSECONDS.toMillis(wait) >= job.getDeadline() - System.currentTimeMillis()) {
+                    returnJob(job, "Rate limit of the key of job is exceeded until its deadline");
+                    return;
+                }
+                schedule(() -> execute(() -> invokeHandler(job)), wait, TimeUnit.NANOSECONDS);
+                return;
+            }
+        }
+        invokeHandler(job);
+    }
+
+    /**
+     * Return the job through the completion window without decreasing its
+     * retries, the job isn't failed, it is only throttled.
+     */
+    private void returnJob(ActivatedJob job, String reason) {
+        logger.debug("returnJob() >> Return job: {} of worker: {}, because: {}", job.getKey(),
+                configuration.getType(), reason);
+        pausedUntil = System.nanoTime() + keyRateLimiter.getIntervalNanos();
+        completionDispatcher.fail(client, job, job.getRetries(), reason)
+                .whenComplete((response, throwable) -> activeJobs.release());
+    }
+
+    private void invokeHandler(ActivatedJob job) {
+        final long start = System.nanoTime();
+        CompletableFuture<Boolean> finished;
+        try {
+            if (handler instanceof TrackedJobHandler) {
+                finished = ((TrackedJobHandler) handler).execute(client, job);
+            } else {
+                handler.handle(client, job);
+                finished = CompletableFuture.completedFuture(true);
+            }
+        } catch (Exception e) {
+            logger.error("handleJob() >> Failed to handle job: {} of worker: {}, because: {}",
+                    job.getKey(), configuration.getType(), e.getMessage());
+            finished = CompletableFuture.completedFuture(false);
+        }
+        finished.whenComplete((succeeded, throwable) -> {
+            limit.onSample(System.nanoTime() - start, Boolean.TRUE.equals(succeeded), activeJobs.get());
+            activeJobs.release();
+        });
+    }
+
+    private void schedulePoll(Duration delay) {
+        if (!isOpen())
+            return;
+        schedule(this::poll, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void schedule(Runnable task, long delay, TimeUnit unit) {
+        try {
+            if (delay <= 0) {
+                scheduler.execute(task);
+            } else {
+                scheduler.schedule(task, delay, unit);
+            }
+        } catch (RejectedExecutionException e) {
+            logger.debug("schedule() >> Scheduler is shut down, stop polling of worker: {}", configuration.getType());
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            handoff.execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.warn("execute() >> Scheduler is shut down, job of worker: {} isn't handled", configuration.getType());
+            activeJobs.release();
+        }
+    }
+}
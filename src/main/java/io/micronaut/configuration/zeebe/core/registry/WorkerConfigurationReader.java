@@ -0,0 +1,325 @@
+package io.micronaut.configuration.zeebe.core.registry;
+
+import io.micronaut.configuration.zeebe.core.annotation.job.DispatchMode;
+import io.micronaut.configuration.zeebe.core.annotation.job.Ordering;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeBatchWorker;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextMapper;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextVariable;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeRetryable;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeWorker;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.configuration.zeebe.core.poller.RateLimiter;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.micronaut.configuration.zeebe.core.registry.ZeebeWorkerRegistry.*;
+
+/**
+ * Reads configurations of workers from the annotations of worker methods.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+class WorkerConfigurationReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkerConfigurationReader.class);
+    private static final String STREAM_VARIABLES = "streamVariables";
+    private static final String DISPATCH = "dispatch";
+    private static final String CONCURRENCY = "concurrency";
+    private static final String EXECUTOR = "executor";
+    private static final String ORDERING = "ordering";
+    private static final String ORDERING_VARIABLE = "orderingVariable";
+    private static final String RATE_LIMIT = "rateLimit";
+    private static final String MAX_ATTEMPTS = "maxAttempts";
+    private static final String BACKOFF = "backoff";
+    private static final String MAX_BACKOFF = "maxBackoff";
+    private static final String MULTIPLIER = "multiplier";
+    private static final String ON = "on";
+    private static final String KEY_RATE_LIMIT = "keyRateLimit";
+    private static final String RATE_LIMIT_VARIABLE = "rateLimitVariable";
+    private static final String RATE_LIMIT_HEADER = "rateLimitHeader";
+    private static final String ROUTE_HEADER = "routeHeader";
+    private static final String ROUTE_VALUE = "routeValue";
+    private static final String MAX_POLL_INTERVAL = "maxPollInterval";
+    private static final String POLL_PRIORITY = "pollPriority";
+    private static final String BATCH_SIZE = "batchSize";
+    private static final String LINGER = "linger";
+    private final Optional<ZeebeConfiguration.PollBackoffConfiguration> pollBackoffConfiguration;
+    private final Duration minRemainingTime;
+    private final DispatchMode defaultDispatchMode;
+
+    /**
+     * @param pollBackoffConfiguration Default backoff of polling
+     * @param minRemainingTime         Min remaining time of job to start the work, null if it isn't checked
+     * @param defaultDispatchMode      Dispatch mode of workers that don't define it
+     */
+    WorkerConfigurationReader(Optional<ZeebeConfiguration.PollBackoffConfiguration> pollBackoffConfiguration,
+                              @Nullable Duration minRemainingTime, DispatchMode defaultDispatchMode) {
+        this.pollBackoffConfiguration = pollBackoffConfiguration;
+        this.minRemainingTime = minRemainingTime;
+        this.defaultDispatchMode = defaultDispatchMode;
+    }
+
+    /**
+     * Get configuration of worker, empty if the method isn't a worker.
+     */
+    Optional<WorkerConfiguration> getConfiguration(BeanDefinition<?> beanDefinition,
+                                                   ExecutableMethod<?, ?> method) {
+        logger.debug("getConfiguration() >> Get configuration for bean: {}", beanDefinition.getName());
+        return getConfiguration(beanDefinition, method, method.getAnnotation(ZeebeWorker.class))
+                .map(workerConfiguration -> {
+                    final AnnotationValue<ZeebeRetryable> retryable = method.getAnnotation(ZeebeRetryable.class);
+                    if (retryable != null)
+                        setRetry(workerConfiguration, retryable);
+                    return workerConfiguration;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setRetry(WorkerConfiguration workerConfiguration, AnnotationValue<ZeebeRetryable> retryable) {
+        final String type = workerConfiguration.getType();
+        final int maxAttempts = retryable.intValue(MAX_ATTEMPTS)
+                .orElse(3);
+        if (maxAttempts < 1)
+            throw new ConfigurationException(String.format("Worker: %s has max attempts less than 1!", type));
+        workerConfiguration.setRetryMaxAttempts(maxAttempts);
+        workerConfiguration.setRetryBackoff(retryable.stringValue(BACKOFF)
+                .filter(StringUtils::isNotEmpty)
+                .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
+                .orElse(Duration.ofMillis(100)));
+        workerConfiguration.setRetryMaxBackoff(retryable.stringValue(MAX_BACKOFF)
+                .filter(StringUtils::isNotEmpty)
+                .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
+                .orElse(Duration.ofSeconds(5)));
+        workerConfiguration.setRetryMultiplier(retryable.doubleValue(MULTIPLIER)
+                .orElse(2.0));
+        workerConfiguration.setRetryOn(Stream.of(retryable.classValues(ON))
+                .map(e -> (Class<? extends Throwable>) e)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Get configuration of batch worker. The batch is activated by one request,
+     * so the max jobs to activate is the batch size.
+     */
+    Optional<WorkerConfiguration> getBatchConfiguration(BeanDefinition<?> beanDefinition,
+                                                        ExecutableMethod<?, ?> method) {
+        logger.debug("getBatchConfiguration() >> Get configuration for bean: {}", beanDefinition.getName());
+        final AnnotationValue<ZeebeBatchWorker> annotation = method.getAnnotation(ZeebeBatchWorker.class);
+        return getConfiguration(beanDefinition, method, annotation)
+                .map(workerConfiguration -> {
+                    final int batchSize = annotation.intValue(BATCH_SIZE)
+                            .orElse(32);
+                    if (batchSize < 1)
+                        throw new ConfigurationException(String.format("Batch worker: %s has batch size less than 1!",
+                                workerConfiguration.getType()));
+                    workerConfiguration.setBatchSize(batchSize);
+                    workerConfiguration.setMaxJobsToActivate(batchSize);
+                    final Duration linger = annotation.stringValue(LINGER)
+                            .filter(StringUtils::isNotEmpty)
+                            .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
+                            .orElse(Duration.ofMillis(100));
+                    workerConfiguration.setBatchLinger(linger);
+                    return workerConfiguration;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<WorkerConfiguration> getConfiguration(BeanDefinition<?> beanDefinition,
+                                                           ExecutableMethod<?, ?> method,
+                                                           AnnotationValue<?> annotation) {
+        if (annotation == null)
+            return Optional.empty();
+
+        final WorkerConfiguration workerConfiguration = new WorkerConfiguration();
+        workerConfiguration.setEnabled(true);
+        final String type = annotation.stringValue(TYPE)
+                .filter(StringUtils::isNotEmpty)
+                .orElseGet(beanDefinition::getName);
+        workerConfiguration.setType(type);
+
+        final Duration timeout = annotation.stringValue(TIMEOUT)
+                .filter(StringUtils::isNotEmpty)
+                .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
+                .orElse(Duration.ofMinutes(5));
+        workerConfiguration.setTimeout(timeout);
+
+        final int maxJobsToActivate = annotation.intValue(MAX_JOBS_TO_ACTIVATE)
+                .orElse(32);
+        workerConfiguration.setMaxJobsToActivate(maxJobsToActivate);
+
+        annotation.longValue(POLL_INTERVAL)
+                .ifPresentOrElse(
+                        p -> workerConfiguration.setPollInterval(Duration.ofMillis(p)),
+                        () -> workerConfiguration.setPollInterval(Duration.ofMillis(100)));
+
+        final Duration maxPollInterval = annotation.stringValue(MAX_POLL_INTERVAL)
+                .filter(StringUtils::isNotEmpty)
+                .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
+                .or(() -> pollBackoffConfiguration.flatMap(ZeebeConfiguration.PollBackoffConfiguration::getMaxInterval))
+                .orElse(null);
+        workerConfiguration.setMaxPollInterval(maxPollInterval);
+        workerConfiguration.setPollBackoffMultiplier(pollBackoffConfiguration
+                .flatMap(ZeebeConfiguration.PollBackoffConfiguration::getMultiplier)
+                .orElse(2.0));
+
+        final int pollPriority = annotation.intValue(POLL_PRIORITY)
+                .orElse(WorkerConfiguration.DEFAULT_POLL_PRIORITY);
+        if (pollPriority < 1 || pollPriority > 10)
+            throw new ConfigurationException(String.format("Worker: %s has poll priority out of range 1..10!", type));
+        workerConfiguration.setPollPriority(pollPriority);
+
+        final Duration requestTimeout = annotation.stringValue(REQUEST_TIMEOUT)
+                .filter(StringUtils::isNotEmpty)
+                .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
+                .orElse(Duration.ofSeconds(10));
+        workerConfiguration.setRequestTimeout(requestTimeout);
+
+        final List<String> fetchVariables = getFetchVariableNames(method, annotation);
+        workerConfiguration.setFetchVariables(fetchVariables);
+
+        final Map<String, List<Class<? extends Throwable>>> errors = annotation.getAnnotations(ERRORS).stream()
+                .collect(Collectors.toMap(
+                        t -> t.stringValue(CODE).orElseThrow(),
+                        t -> Stream.of(t.classValues(THROWABLE))
+                                .map(e -> (Class<? extends Throwable>) e)
+                                .collect(Collectors.toList()),
+                        (first, second) -> {
+                            throw new ConfigurationException(
+                                    String.format("Worker: %s has duplicated error codes!", type));
+                        },
+                        LinkedHashMap::new));
+        workerConfiguration.setErrors(errors);
+
+        workerConfiguration.setMaxJobsToActivate(maxJobsToActivate);
+
+        final String outputVariableName = annotation.stringValue(OUTPUT_VARIABLE_NAME)
+                .filter(StringUtils::isNotEmpty)
+                .orElseGet(() -> beanDefinition.getBeanType().getSimpleName() + "_" + method.getName());
+        workerConfiguration.setOutputVariableName(outputVariableName);
+
+        final int concurrency = annotation.intValue(CONCURRENCY)
+                .orElse(0);
+        if (concurrency < 0)
+            throw new ConfigurationException(String.format("Worker: %s has negative concurrency!", type));
+        if (concurrency > 0)
+            workerConfiguration.setConcurrency(concurrency);
+
+        annotation.stringValue(EXECUTOR)
+                .filter(StringUtils::isNotEmpty)
+                .ifPresent(workerConfiguration::setExecutor);
+
+        annotation.stringValue(ROUTE_HEADER)
+                .filter(StringUtils::isNotEmpty)
+                .ifPresent(header -> {
+                    workerConfiguration.setRouteHeader(header);
+                    workerConfiguration.setRouteValue(annotation.stringValue(ROUTE_VALUE).orElse(""));
+                });
+
+        final boolean autoComplete = annotation.booleanValue(AUTO_COMPLETE)
+                .orElse(Boolean.TRUE);
+        workerConfiguration.setAutoComplete(autoComplete);
+        workerConfiguration.setStreamVariables(annotation.booleanValue(STREAM_VARIABLES).orElse(Boolean.FALSE));
+
+        workerConfiguration.setMinRemainingTime(minRemainingTime);
+
+        final Ordering ordering = annotation.enumValue(ORDERING, Ordering.class)
+                .orElse(Ordering.NONE);
+        if (ordering == Ordering.VARIABLE) {
+            final String orderingVariable = annotation.stringValue(ORDERING_VARIABLE)
+                    .filter(StringUtils::isNotEmpty)
+                    .orElseThrow(() -> new ConfigurationException(
+                            String.format("Worker: %s is ordered by variable, but it isn't defined!", type)));
+            workerConfiguration.setOrderingVariable(orderingVariable);
+            // The variable is fetched if the worker doesn't fetch all variables
+            final String root = StringUtils.splitOmitEmptyStrings(orderingVariable, '.').iterator().next();
+            if (!fetchVariables.isEmpty() && !fetchVariables.contains(root))
+                fetchVariables.add(root);
+        }
+        if (ordering != Ordering.NONE)
+            workerConfiguration.setOrdering(ordering);
+
+        annotation.stringValue(RATE_LIMIT)
+                .filter(StringUtils::isNotEmpty)
+                .ifPresent(rate -> workerConfiguration.setRateLimit(parseRate(type, rate)));
+        final Optional<String> keyRateLimit = annotation.stringValue(KEY_RATE_LIMIT)
+                .filter(StringUtils::isNotEmpty);
+        if (keyRateLimit.isPresent()) {
+            final Optional<String> rateLimitVariable = annotation.stringValue(RATE_LIMIT_VARIABLE)
+                    .filter(StringUtils::isNotEmpty);
+            final Optional<String> rateLimitHeader = annotation.stringValue(RATE_LIMIT_HEADER)
+                    .filter(StringUtils::isNotEmpty);
+            if (rateLimitVariable.isPresent() == rateLimitHeader.isPresent())
+                throw new ConfigurationException(String.format(
+                        "Worker: %s must take the rate limit key either from variable or from header!", type));
+            workerConfiguration.setKeyRateLimit(parseRate(type, keyRateLimit.get()));
+            rateLimitHeader.ifPresent(workerConfiguration::setRateLimitHeader);
+            rateLimitVariable.ifPresent(variable -> {
+                workerConfiguration.setRateLimitVariable(variable);
+                final String root = StringUtils.splitOmitEmptyStrings(variable, '.').iterator().next();
+                if (!fetchVariables.isEmpty() && !fetchVariables.contains(root))
+                    fetchVariables.add(root);
+            });
+        }
+
+        final DispatchMode dispatchMode = annotation.enumValue(DISPATCH, DispatchMode.class)
+                .filter(mode -> mode != DispatchMode.DEFAULT)
+                .orElse(defaultDispatchMode);
+        workerConfiguration.setDispatchMode(dispatchMode);
+
+        return Optional.of(workerConfiguration);
+    }
+
+    private static double parseRate(String type, String rate) {
+        try {
+            return RateLimiter.parseRate(rate);
+        } catch (IllegalArgumentException e) {
+            throw new ConfigurationException(String.format("Worker: %s has invalid rate limit: %s!", type, rate));
+        }
+    }
+
+    private List<String> getFetchVariableNames(ExecutableMethod<?, ?> method, AnnotationValue<?> annotation) {
+        final List<String> variablesNames = new ArrayList<>(List.of(annotation.stringValues("fetchVariables")));
+
+        Arrays.stream(method.getArguments())
+                .filter(argument -> argument.isAnnotationPresent(ZeebeContextVariable.class))
+                .map(argument -> argument.getAnnotationMetadata()
+                        .stringValue(ZeebeContextVariable.class)
+                        .orElse(argument.getName()))
+                .forEach(variablesNames::add);
+
+        Arrays.stream(method.getArguments())
+                .filter(argument -> argument.isAnnotationPresent(ZeebeContextMapper.class))
+                .flatMap(this::extractVariablesForMapper)
+                .forEach(variablesNames::add);
+
+        return variablesNames;
+    }
+
+    private Stream<String> extractVariablesForMapper(Argument<?> argument) {
+        final String path = argument.getAnnotationMetadata().stringValue(ZeebeContextMapper.class)
+                .orElse("");
+
+        if (StringUtils.isNotEmpty(path)) {
+            final String root = StringUtils.splitOmitEmptyStrings(path, '.').iterator().next();
+            return Stream.of(root);
+        }
+        return Arrays.stream(argument.getType().getDeclaredFields())
+                .map(Field::getName);
+    }
+}
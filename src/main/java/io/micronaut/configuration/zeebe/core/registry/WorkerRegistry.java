@@ -25,6 +25,16 @@ public interface WorkerRegistry {
      */
     void registerWorker(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method);
 
+    /**
+     * Register a batch worker
+     *
+     * @param beanDefinition Bean Definition of the class that was annotated with
+     *                       the ZeebeBatchWorker annotation
+     * @param method         Definition of worker class method
+     * @see io.micronaut.configuration.zeebe.core.annotation.job.ZeebeBatchWorker
+     */
+    void registerBatchWorker(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method);
+
     /**
      * Stops the worker with the specified name
      *
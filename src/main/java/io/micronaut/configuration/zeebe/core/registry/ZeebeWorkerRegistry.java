@@ -1,9 +1,10 @@
 package io.micronaut.configuration.zeebe.core.registry;
 
-import io.camunda.zeebe.client.api.worker.JobHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobWorker;
-import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextMapper;
-import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextVariable;
+import io.micronaut.configuration.zeebe.core.annotation.job.DispatchMode;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeBatchWorker;
 import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeWorker;
 import io.micronaut.configuration.zeebe.core.binder.JobBinderRegistry;
 import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
@@ -11,19 +12,44 @@ import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
 import io.micronaut.configuration.zeebe.core.connection.ZeebeClusterConnectionManager;
 import io.micronaut.configuration.zeebe.core.connection.event.ZeebeClusterConnectionEstablishedEvent;
 import io.micronaut.configuration.zeebe.core.connection.event.ZeebeClusterConnectionLostEvent;
+import io.micronaut.configuration.zeebe.core.binder.StreamingVariablesExtractor;
+import io.micronaut.configuration.zeebe.core.executor.QueueOrder;
+import io.micronaut.configuration.zeebe.core.executor.RingBufferDispatcher;
+import io.micronaut.configuration.zeebe.core.executor.VirtualThreadExecutors;
+import io.micronaut.configuration.zeebe.core.executor.WorkerExecutor;
+import io.micronaut.configuration.zeebe.core.executor.WaitStrategy;
 import io.micronaut.configuration.zeebe.core.executor.WorkerExecutorServiceConfig;
+import io.micronaut.configuration.zeebe.core.handler.JobCompletionDispatcher;
+import io.micronaut.configuration.zeebe.core.handler.CompletedJobCache;
+import io.micronaut.configuration.zeebe.core.handler.FailureClassifier;
+import io.micronaut.configuration.zeebe.core.handler.JobHandlerOptions;
+import io.micronaut.configuration.zeebe.core.handler.JobInvocationPlan;
+import io.micronaut.configuration.zeebe.core.handler.JobQuarantine;
+import io.micronaut.configuration.zeebe.core.handler.JobWatchdog;
+import io.micronaut.configuration.zeebe.core.handler.RoutingJobHandler;
+import io.micronaut.configuration.zeebe.core.handler.ZeebeBatchJobHandler;
 import io.micronaut.configuration.zeebe.core.handler.ZeebeJobHandler;
+import io.micronaut.configuration.zeebe.core.poller.ActiveJobCounter;
+import io.micronaut.configuration.zeebe.core.poller.AdaptiveConcurrencyLimit;
+import io.micronaut.configuration.zeebe.core.poller.CircuitBreaker;
+import io.micronaut.configuration.zeebe.core.poller.JobPollerOptions;
+import io.micronaut.configuration.zeebe.core.poller.ConcurrencyLimit;
+import io.micronaut.configuration.zeebe.core.poller.KeyedRateLimiter;
+import io.micronaut.configuration.zeebe.core.poller.PollBudget;
+import io.micronaut.configuration.zeebe.core.poller.ZeebeBatchJobPoller;
+import io.micronaut.configuration.zeebe.core.poller.ZeebeJobPoller;
 import io.micronaut.configuration.zeebe.core.specification.VariableSpecification;
 import io.micronaut.configuration.zeebe.core.specification.WorkerSpecification;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.annotation.AnnotationValue;
-import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.runtime.ApplicationConfiguration;
 import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.scheduling.annotation.Async;
@@ -35,12 +61,20 @@ import org.slf4j.LoggerFactory;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.lang.reflect.Field;
+import javax.annotation.PreDestroy;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -55,6 +89,8 @@ public class ZeebeWorkerRegistry implements WorkerRegistry {
     private static final Logger logger = LoggerFactory.getLogger(ZeebeWorkerRegistry.class);
     public static final String DOCUMENTATION = "documentation";
     public static final String AUTO_COMPLETE = "autoComplete";
+    public static final String VIRTUAL_THREAD_PREFIX = "zeebe-virtual-";
+    public static final String JOB_WORKER_THREAD_PREFIX = "zeebe-job-worker-";
     public static final String OUTPUT_VARIABLE_NAME = "outputVariableName";
     public static final String ERRORS = "errors";
     public static final String REQUEST_TIMEOUT = "requestTimeout";
@@ -64,57 +100,461 @@ public class ZeebeWorkerRegistry implements WorkerRegistry {
     public static final String TYPE = "type";
     public static final String CODE = "code";
     public static final String THROWABLE = "throwable";
+    // Settings of the subscription that every route of a type must share
+    private static final Map<String, Function<WorkerConfiguration, Object>> SUBSCRIPTION_SETTINGS = Map.ofEntries(
+            Map.entry("timeout", WorkerConfiguration::getTimeout),
+            Map.entry("max jobs to activate", WorkerConfiguration::getMaxJobsToActivate),
+            Map.entry("concurrency", WorkerConfiguration::getConcurrency),
+            Map.entry("poll interval", WorkerConfiguration::getPollInterval),
+            Map.entry("max poll interval", WorkerConfiguration::getMaxPollInterval),
+            Map.entry("poll priority", WorkerConfiguration::getPollPriority),
+            Map.entry("request timeout", WorkerConfiguration::getRequestTimeout),
+            Map.entry("rate limit", WorkerConfiguration::getRateLimit),
+            Map.entry("key rate limit", WorkerConfiguration::getKeyRateLimit),
+            Map.entry("rate limit variable", WorkerConfiguration::getRateLimitVariable),
+            Map.entry("rate limit header", WorkerConfiguration::getRateLimitHeader));
     private final JobBinderRegistry jobBinderRegistry;
     private final Scheduler executorScheduler;
+    private final Scheduler virtualScheduler;
+    private final ScheduledExecutorService jobScheduler;
+    // Scheduler of job workers for Reactor, it runs the delayed retries of direct workers
+    private final Scheduler jobWorkerScheduler;
     private final BeanContext beanContext;
     private final ZeebeClusterConnectionManager connectionManager;
+    private final ObjectMapper mapper;
+    private final ZeebeConfiguration.CompletionConfiguration completionConfiguration;
+    private final Optional<ZeebeConfiguration.AdaptiveConcurrencyConfiguration> adaptiveConcurrencyConfiguration;
+    private final Optional<ZeebeConfiguration.CircuitBreakerConfiguration> circuitBreakerConfiguration;
+    private final Optional<ZeebeConfiguration.QuarantineConfiguration> quarantineConfiguration;
+    // Classifiers of failures of jobs, empty if the quarantine isn't enabled
+    private final List<FailureClassifier> failureClassifiers;
+    private final Optional<ZeebeConfiguration.DeduplicationConfiguration> deduplicationConfiguration;
+    private final WorkerExecutor workerExecutor;
+    private final Optional<ZeebeConfiguration.PollBackoffConfiguration> pollBackoffConfiguration;
+    private final PollBudget pollBudget;
+    private final WorkerConfigurationReader configurationReader;
+    // Hands over activated jobs to the handler threads
+    private final Executor jobHandoff;
+    private final RingBufferDispatcher ringBufferDispatcher;
+    // Cancels the handlers of overdue jobs, null if it isn't enabled
+    private final JobWatchdog watchdog;
+    private final Map<String, ConcurrencyLimit> concurrencyLimits = new ConcurrentHashMap<>();
+    private final Map<String, KeyedRateLimiter> keyRateLimiters = new ConcurrentHashMap<>();
+    private final Map<String, JobCompletionDispatcher> completionDispatchers = new ConcurrentHashMap<>();
+    // Counts of active jobs, they outlive the pollers, so the limit holds when the worker is reopened
+    private final Map<String, ActiveJobCounter> activeJobCounters = new ConcurrentHashMap<>();
     private final Map<String, WorkerConfiguration> workerConfigurations = new ConcurrentHashMap<>();
     private final Map<String, WorkerSpecification> workerSpecifications = new ConcurrentHashMap<>();
     private final Map<String, JobWorker> activeWorkers = new ConcurrentHashMap<>();
+    // Types of workers that are paused by the circuit breaker, not by the user
+    private final Set<String> pausedByBreaker = ConcurrentHashMap.newKeySet();
     private final String serviceName;
 
     @Inject
     public ZeebeWorkerRegistry(JobBinderRegistry jobBinderRegistry, BeanContext beanContext,
                                ZeebeClusterConnectionManager connectionManager,
                                @Named(WorkerExecutorServiceConfig.ZEEBE) ExecutorService executorService,
-                               ApplicationConfiguration applicationConfiguration) {
+                               ApplicationConfiguration applicationConfiguration,
+                               ObjectMapper mapper,
+                               ZeebeConfiguration configuration,
+                               WorkerExecutor workerExecutor) {
         this.jobBinderRegistry = jobBinderRegistry;
         this.beanContext = beanContext;
         this.connectionManager = connectionManager;
         this.executorScheduler = Schedulers.fromExecutor(executorService);
+        this.virtualScheduler = VirtualThreadExecutors.newVirtualThreadPerTaskExecutor(VIRTUAL_THREAD_PREFIX)
+                .map(Schedulers::fromExecutorService)
+                .orElse(executorScheduler);
         this.serviceName = applicationConfiguration.getName().orElse("UNKNOWN");
+        this.mapper = mapper;
+        this.completionConfiguration = configuration.getCompletionConfiguration();
+        this.jobScheduler = Executors.newScheduledThreadPool(
+                configuration.getNumJobWorkerExecutionThreads().orElse(1), newJobWorkerThreadFactory());
+        this.jobWorkerScheduler = Schedulers.fromExecutorService(jobScheduler);
+        this.adaptiveConcurrencyConfiguration = Optional.ofNullable(configuration.getAdaptiveConcurrencyConfiguration())
+                .filter(adaptive -> adaptive.isEnabled().orElse(false));
+        this.circuitBreakerConfiguration = Optional.ofNullable(configuration.getCircuitBreakerConfiguration())
+                .filter(circuitBreaker -> circuitBreaker.isEnabled().orElse(false));
+        this.workerExecutor = workerExecutor;
+        this.pollBackoffConfiguration = Optional.ofNullable(configuration.getPollBackoffConfiguration());
+        this.pollBudget = createPollBudget(configuration.getPollBudgetConfiguration());
+        this.ringBufferDispatcher = createRingBufferDispatcher(configuration.getRingBufferConfiguration(),
+                configuration.getNumJobWorkerExecutionThreads().orElse(1));
+        this.jobHandoff = (ringBufferDispatcher == null)
+                ? jobScheduler
+                : ringBufferDispatcher;
+        this.configurationReader = new WorkerConfigurationReader(pollBackoffConfiguration,
+                Optional.ofNullable(configuration.getExecutorConfiguration())
+                        .flatMap(ZeebeConfiguration.WorkerExecutorConfiguration::getMinRemainingTime)
+                        .orElse(null),
+                configuration.getDefaultDispatch().orElse(DispatchMode.DEFAULT));
+        this.watchdog = beanContext.findBean(JobWatchdog.class).orElse(null);
+        this.quarantineConfiguration = Optional.ofNullable(configuration.getQuarantineConfiguration())
+                .filter(quarantine -> quarantine.isEnabled().orElse(false));
+        this.failureClassifiers = quarantineConfiguration
+                .map(quarantine -> createFailureClassifiers(beanContext, quarantine))
+                .orElse(List.of());
+        this.deduplicationConfiguration = Optional.ofNullable(configuration.getDeduplicationConfiguration())
+                .filter(deduplication -> deduplication.isEnabled().orElse(false));
     }
 
     @Override
     public void registerWorker(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
         logger.debug("Register() >> Register worker");
 
-        final Optional<WorkerConfiguration> maybeWorkerConfiguration = getConfiguration(beanDefinition, method);
+        final Optional<WorkerConfiguration> maybeWorkerConfiguration =
+                configurationReader.getConfiguration(beanDefinition, method);
         if (maybeWorkerConfiguration.isEmpty()) {
             // TODO: 22.01.2022 What if configuration is empty
             logger.warn("registerWorker() >> Can't get worker configuration for bean: {}", beanDefinition.getBeanType());
             return;
         }
         final WorkerConfiguration workerConfiguration = maybeWorkerConfiguration.get();
-        if (workerConfigurations.containsKey(workerConfiguration.getType())) {
+        final WorkerConfiguration registered = workerConfigurations.get(workerConfiguration.getType());
+        final boolean route = workerConfiguration.getRouteHeader() != null;
+        if (registered != null && !(route && registered.getHandler() instanceof RoutingJobHandler)) {
             logger.error("registerWorker() >> Such worker: {} is already registered!", workerConfiguration.getType());
             throw new ConfigurationException(String.format("Such worker: %s is already registered!", workerConfiguration.getType()));
         }
         final Object bean = beanContext.getBean(beanDefinition.getBeanType());
-        final JobHandler jobHandler = new ZeebeJobHandler(workerConfiguration, method, bean, jobBinderRegistry, executorScheduler);
+        final JobInvocationPlan plan = JobInvocationPlan.compile(workerConfiguration, method, jobBinderRegistry, mapper);
+        final JobHandlerOptions options = JobHandlerOptions.builder(getScheduler(workerConfiguration), mapper,
+                        getCompletionDispatcher(workerConfiguration))
+                .deadlineExecutor(getDeadlineExecutor(workerConfiguration))
+                .watchdog(watchdog)
+                .quarantine(createQuarantine(workerConfiguration))
+                .completedJobs(createCompletedJobCache())
+                .retryScheduler(jobWorkerScheduler)
+                .build();
+        final ZeebeJobHandler jobHandler = new ZeebeJobHandler(workerConfiguration, plan, bean, options);
+        workerConfiguration.setHandler(jobHandler);
+        if (route) {
+            registerRoute(beanDefinition, method, workerConfiguration, jobHandler, registered);
+            return;
+        }
+        concurrencyLimits.put(workerConfiguration.getType(), createConcurrencyLimit(workerConfiguration, jobHandler));
+        createKeyRateLimiter(workerConfiguration)
+                .ifPresent(limiter -> keyRateLimiters.put(workerConfiguration.getType(), limiter));
+        workerConfigurations.put(workerConfiguration.getType(), workerConfiguration);
+        final Optional<WorkerSpecification> specification = getSpecification(beanDefinition, method,
+                method.getAnnotation(ZeebeWorker.class), workerConfiguration);
+        specification.ifPresent(spec -> workerSpecifications.put(workerConfiguration.getType(), spec));
+        CompletableFuture.runAsync(() -> openWorker(workerConfiguration));
+    }
+
+    /**
+     * Add the worker as a route of the shared subscription of its type. The
+     * subscription is opened by the first route, with its settings, and
+     * fetches the variables of all routes.
+     */
+    private void registerRoute(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method,
+                               WorkerConfiguration workerConfiguration, ZeebeJobHandler jobHandler,
+                               WorkerConfiguration shared) {
+        final String type = workerConfiguration.getType();
+        final String header = workerConfiguration.getRouteHeader();
+        logger.debug("registerRoute() >> Register route: {}={} of worker: {}", header,
+                workerConfiguration.getRouteValue(), type);
+        if (shared == null) {
+            final RoutingJobHandler router = new RoutingJobHandler(type, header,
+                    getCompletionDispatcher(workerConfiguration));
+            router.addRoute(workerConfiguration.getRouteValue(), jobHandler);
+            workerConfiguration.setHandler(router);
+            concurrencyLimits.put(type, createConcurrencyLimit(workerConfiguration, jobHandler));
+            createKeyRateLimiter(workerConfiguration).ifPresent(limiter -> keyRateLimiters.put(type, limiter));
+            workerConfigurations.put(type, workerConfiguration);
+            CompletableFuture.runAsync(() -> openWorker(workerConfiguration));
+        } else {
+            final RoutingJobHandler router = (RoutingJobHandler) shared.getHandler();
+            if (!router.getHeader().equals(header))
+                throw new ConfigurationException(String.format("Worker: %s is routed by different headers: %s and %s!",
+                        type, router.getHeader(), header));
+            checkSubscription(shared, workerConfiguration);
+            router.addRoute(workerConfiguration.getRouteValue(), jobHandler);
+            shared.setFetchVariables(mergeFetchVariables(shared.getFetchVariables(),
+                    workerConfiguration.getFetchVariables()));
+        }
+        getSpecification(beanDefinition, method, method.getAnnotation(ZeebeWorker.class), workerConfiguration)
+                .ifPresent(spec -> workerSpecifications.put(
+                        String.format("%s[%s=%s]", type, header, workerConfiguration.getRouteValue()), spec));
+    }
+
+    /**
+     * The routes of a type share one subscription, so they must have the same
+     * settings of activation and limits, except the fetched variables, which
+     * are merged.
+     */
+    private static void checkSubscription(WorkerConfiguration shared, WorkerConfiguration route) {
+        SUBSCRIPTION_SETTINGS.forEach((name, setting) -> {
+            final Object expected = setting.apply(shared);
+            final Object actual = setting.apply(route);
+            if (!Objects.equals(expected, actual)) {
+                logger.error("checkSubscription() >> Route: {} of worker: {} has {}: {}, but the subscription has: {}",
+                        route.getRouteValue(), route.getType(), name, actual, expected);
+                throw new ConfigurationException(String.format("Routes of worker: %s have different %s: %s and %s!",
+                        route.getType(), name, expected, actual));
+            }
+        });
+    }
+
+    /**
+     * Empty list of variables means that all variables are fetched.
+     */
+    private static List<String> mergeFetchVariables(List<String> first, List<String> second) {
+        if (first.isEmpty() || second.isEmpty())
+            return List.of();
+        return Stream.concat(first.stream(), second.stream())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void registerBatchWorker(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
+        logger.debug("registerBatchWorker() >> Register batch worker");
+
+        final Optional<WorkerConfiguration> maybeWorkerConfiguration =
+                configurationReader.getBatchConfiguration(beanDefinition, method);
+        if (maybeWorkerConfiguration.isEmpty()) {
+            logger.warn("registerBatchWorker() >> Can't get worker configuration for bean: {}", beanDefinition.getBeanType());
+            return;
+        }
+        final WorkerConfiguration workerConfiguration = maybeWorkerConfiguration.get();
+        if (workerConfigurations.containsKey(workerConfiguration.getType())) {
+            logger.error("registerBatchWorker() >> Such worker: {} is already registered!", workerConfiguration.getType());
+            throw new ConfigurationException(String.format("Such worker: %s is already registered!", workerConfiguration.getType()));
+        }
+        final Object bean = beanContext.getBean(beanDefinition.getBeanType());
+        final JobHandlerOptions options = JobHandlerOptions.builder(getScheduler(workerConfiguration), mapper,
+                        getCompletionDispatcher(workerConfiguration))
+                .quarantine(createQuarantine(workerConfiguration))
+                .completedJobs(createCompletedJobCache())
+                .build();
+        final ZeebeBatchJobHandler jobHandler = new ZeebeBatchJobHandler(workerConfiguration, method, bean, options);
         workerConfiguration.setHandler(jobHandler);
         workerConfigurations.put(workerConfiguration.getType(), workerConfiguration);
-        final Optional<WorkerSpecification> specification = getSpecification(beanDefinition, method, workerConfiguration);
+        final Optional<WorkerSpecification> specification = getSpecification(beanDefinition, method,
+                method.getAnnotation(ZeebeBatchWorker.class), workerConfiguration);
         specification.ifPresent(spec -> workerSpecifications.put(workerConfiguration.getType(), spec));
         CompletableFuture.runAsync(() -> openWorker(workerConfiguration));
     }
 
+    private Scheduler getScheduler(WorkerConfiguration workerConfiguration) {
+        if (workerConfiguration.getDispatchMode() == DispatchMode.VIRTUAL) {
+            if (!VirtualThreadExecutors.isSupported())
+                logger.warn("getScheduler() >> Virtual threads aren't supported by runtime, worker: {} is offloaded to executor",
+                        workerConfiguration.getType());
+            return virtualScheduler;
+        }
+        if (workerConfiguration.getExecutor() == null)
+            return executorScheduler;
+        final ExecutorService workerExecutor = beanContext
+                .findBean(ExecutorService.class, Qualifiers.byName(workerConfiguration.getExecutor()))
+                .orElseThrow(() -> new ConfigurationException(String.format("Worker: %s has unknown executor: %s",
+                        workerConfiguration.getType(), workerConfiguration.getExecutor())));
+        return Schedulers.fromExecutorService(workerExecutor);
+    }
+
+    /**
+     * The jobs are submitted to the executor of module ordered by deadlines, if
+     * its queue has deadline order and the worker is offloaded to it.
+     */
+    private Executor getDeadlineExecutor(WorkerConfiguration workerConfiguration) {
+        if (workerExecutor.getQueueOrder() != QueueOrder.DEADLINE
+                || workerConfiguration.getDispatchMode() == DispatchMode.VIRTUAL
+                || workerConfiguration.getExecutor() != null)
+            return null;
+        return workerExecutor.getExecutorService();
+    }
+
+    /**
+     * Create limit of active jobs of worker. The adaptive limit of worker that is
+     * offloaded to the executor of module also backs off when the executor is
+     * saturated.
+     */
+    private ConcurrencyLimit createConcurrencyLimit(WorkerConfiguration workerConfiguration,
+                                                    ZeebeJobHandler jobHandler) {
+        final int maxJobsActive = workerConfiguration.getMaxJobsActive();
+        if (adaptiveConcurrencyConfiguration.isEmpty())
+            return withCircuitBreaker(workerConfiguration, ConcurrencyLimit.fixed(maxJobsActive));
+        final ZeebeConfiguration.AdaptiveConcurrencyConfiguration adaptive = adaptiveConcurrencyConfiguration.get();
+        final boolean sharedExecutor = jobHandler.getDispatchMode() == DispatchMode.OFFLOAD
+                && workerConfiguration.getExecutor() == null;
+        return withCircuitBreaker(workerConfiguration, new AdaptiveConcurrencyLimit(workerConfiguration.getType(),
+                adaptive.getInitialLimit().orElse((maxJobsActive + 1) / 2),
+                adaptive.getMinLimit().orElse(1),
+                maxJobsActive,
+                adaptive.getBackoffRatio().orElse(0.75),
+                adaptive.getLatencyTolerance().orElse(2.0),
+                sharedExecutor ? workerExecutor.saturationProbe() : () -> false));
+    }
+
+    private ConcurrencyLimit withCircuitBreaker(WorkerConfiguration workerConfiguration, ConcurrencyLimit limit) {
+        if (circuitBreakerConfiguration.isEmpty())
+            return limit;
+        final ZeebeConfiguration.CircuitBreakerConfiguration circuitBreaker = circuitBreakerConfiguration.get();
+        final double threshold = circuitBreaker.getFailureRateThreshold().orElse(0.5);
+        if (threshold <= 0 || threshold > 1)
+            throw new ConfigurationException("Failure rate threshold of circuit breaker must be in range (0..1]!");
+        final Duration openDuration = circuitBreaker.getOpenDuration().orElse(Duration.ofSeconds(30));
+        return new CircuitBreaker(workerConfiguration.getType(), limit,
+                circuitBreaker.getWindowSize().orElse(20),
+                threshold,
+                circuitBreaker.getHalfOpenJobs().orElse(1),
+                breaker -> openCircuit(workerConfiguration.getType(), breaker, openDuration));
+    }
+
+    /**
+     * Pause the worker while the breaker is open. The worker is paused, not
+     * stopped, so a worker that is stopped by the user meanwhile isn't resumed
+     * when the breaker becomes half-open.
+     */
+    private void openCircuit(String type, CircuitBreaker breaker, Duration openDuration) {
+        final WorkerConfiguration workerConfiguration = workerConfigurations.get(type);
+        if (workerConfiguration != null && workerConfiguration.isEnabled()) {
+            logger.warn("openCircuit() >> Pause worker: {} for {}", type, openDuration);
+            pausedByBreaker.add(type);
+            Optional.ofNullable(activeWorkers.remove(type))
+                    .ifPresent(JobWorker::close);
+        }
+        try {
+            jobScheduler.schedule(() -> {
+                breaker.halfOpen();
+                if (pausedByBreaker.remove(type))
+                    resumeWorker(type);
+            }, openDuration.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.debug("openCircuit() >> Scheduler is shut down, worker: {} isn't resumed", type);
+        }
+    }
+
+    private static PollBudget createPollBudget(ZeebeConfiguration.PollBudgetConfiguration budgetConfiguration) {
+        final Optional<Double> requestsPerSecond = Optional.ofNullable(budgetConfiguration)
+                .flatMap(ZeebeConfiguration.PollBudgetConfiguration::getRequestsPerSecond);
+        if (requestsPerSecond.isEmpty())
+            return PollBudget.unlimited();
+        if (requestsPerSecond.get() <= 0)
+            throw new ConfigurationException("Poll budget must be positive!");
+        return new PollBudget(requestsPerSecond.get(), budgetConfiguration.getBurst()
+                .orElse((int) Math.ceil(requestsPerSecond.get())));
+    }
+
+    /**
+     * The key of job is the value of its custom header or variable, the jobs
+     * whose variable can't be read have no key.
+     */
+    private Optional<KeyedRateLimiter> createKeyRateLimiter(WorkerConfiguration workerConfiguration) {
+        if (workerConfiguration.getKeyRateLimit() == null)
+            return Optional.empty();
+        final Function<ActivatedJob, Object> keyExtractor;
+        if (workerConfiguration.getRateLimitHeader() != null) {
+            final String header = workerConfiguration.getRateLimitHeader();
+            keyExtractor = job -> job.getCustomHeaders().get(header);
+        } else {
+            final StreamingVariablesExtractor extractor = StreamingVariablesExtractor.of(mapper,
+                    List.of(StringUtils.splitOmitEmptyStringsList(workerConfiguration.getRateLimitVariable(), '.')),
+                    List.of(Argument.OBJECT_ARGUMENT))
+                    .orElseThrow();
+            keyExtractor = job -> {
+                try {
+                    return extractor.extract(job.getVariables())[0];
+                } catch (IllegalArgumentException e) {
+                    logger.warn("createKeyRateLimiter() >> Failed to read rate limit key of job: {}, because: {}",
+                            job.getKey(), e.getMessage());
+                    return null;
+                }
+            };
+        }
+        return Optional.of(new KeyedRateLimiter(workerConfiguration.getKeyRateLimit(), keyExtractor));
+    }
+
+    /**
+     * The classifier beans are asked first, then the exceptions from
+     * configuration and the default ones.
+     */
+    private static List<FailureClassifier> createFailureClassifiers(
+            BeanContext beanContext, ZeebeConfiguration.QuarantineConfiguration quarantine) {
+        final List<Class<?>> deterministic = new ArrayList<>(loadClasses(quarantine.getDeterministicExceptions()));
+        deterministic.addAll(JobQuarantine.DEFAULT_DETERMINISTIC_EXCEPTIONS);
+        final List<Class<?>> transients = new ArrayList<>(loadClasses(quarantine.getTransientExceptions()));
+        transients.addAll(JobQuarantine.DEFAULT_TRANSIENT_EXCEPTIONS);
+        final List<FailureClassifier> classifiers = new ArrayList<>(beanContext.getBeansOfType(FailureClassifier.class));
+        classifiers.add(FailureClassifier.of(deterministic, transients));
+        return List.copyOf(classifiers);
+    }
+
+    private static List<Class<?>> loadClasses(Optional<List<String>> classNames) {
+        return classNames.orElse(List.of()).stream()
+                .<Class<?>>map(name -> ClassUtils.forName(name, ZeebeWorkerRegistry.class.getClassLoader())
+                        .orElseThrow(() -> new ConfigurationException(
+                                String.format("Exception class: %s of quarantine isn't found!", name))))
+                .collect(Collectors.toList());
+    }
+
+    private JobQuarantine createQuarantine(WorkerConfiguration workerConfiguration) {
+        return quarantineConfiguration
+                .map(quarantine -> new JobQuarantine(workerConfiguration.getType(), failureClassifiers,
+                        quarantine.getRepeatThreshold().orElse(3),
+                        quarantine.getWindow().orElse(Duration.ofMinutes(10)),
+                        quarantine.getCacheSize().orElse(1024)))
+                .orElse(null);
+    }
+
+    private CompletedJobCache createCompletedJobCache() {
+        return deduplicationConfiguration
+                .map(deduplication -> new CompletedJobCache(
+                        deduplication.getTtl().orElse(Duration.ofMinutes(10)),
+                        deduplication.getMaxSize().orElse(10_000)))
+                .orElse(null);
+    }
+
+    private static RingBufferDispatcher createRingBufferDispatcher(
+            ZeebeConfiguration.RingBufferConfiguration ringBufferConfiguration, int jobWorkerThreads) {
+        final Optional<ZeebeConfiguration.RingBufferConfiguration> ringBuffer = Optional
+                .ofNullable(ringBufferConfiguration)
+                .filter(configuration -> configuration.isEnabled().orElse(false));
+        if (ringBuffer.isEmpty())
+            return null;
+        final int size = ringBuffer.flatMap(ZeebeConfiguration.RingBufferConfiguration::getSize)
+                .orElse(RingBufferDispatcher.DEFAULT_SIZE);
+        final int consumers = ringBuffer.flatMap(ZeebeConfiguration.RingBufferConfiguration::getConsumers)
+                .orElse(jobWorkerThreads);
+        if (size < 1 || consumers < 1)
+            throw new ConfigurationException(String.format(
+                    "Invalid ring buffer, size: %s, consumers: %s", size, consumers));
+        return new RingBufferDispatcher(size, consumers, ringBuffer
+                .flatMap(ZeebeConfiguration.RingBufferConfiguration::getWaitStrategy)
+                .orElse(WaitStrategy.PARK));
+    }
+
+    private static ThreadFactory newJobWorkerThreadFactory() {
+        final AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            final Thread thread = new Thread(task, JOB_WORKER_THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The handlers and the poller of a type, including all routes, share one
+     * completion window.
+     */
+    private JobCompletionDispatcher getCompletionDispatcher(WorkerConfiguration workerConfiguration) {
+        return completionDispatchers.computeIfAbsent(workerConfiguration.getType(), type -> {
+            // Batch worker sends results of a batch at once, while the next batch is collected
+            final int windowSize = (workerConfiguration.getBatchSize() == null)
+                    ? workerConfiguration.getMaxJobsToActivate()
+                    : workerConfiguration.getBatchSize() * 2;
+            return JobCompletionDispatcher.create(type, windowSize, connectionManager::getClient,
+                    completionConfiguration);
+        });
+    }
+
     private Optional<WorkerSpecification> getSpecification(final BeanDefinition<?> beanDefinition,
                                                            final ExecutableMethod<?, ?> method,
+                                                           final AnnotationValue<?> annotation,
                                                            final WorkerConfiguration workerConfiguration) {
 
         logger.debug("getSpecification() >> Get specification for bean: {}", beanDefinition.getName());
-        final AnnotationValue<ZeebeWorker> annotation = method.getAnnotation(ZeebeWorker.class);
         if (annotation == null)
             return Optional.empty();
 
@@ -146,16 +586,26 @@ public class ZeebeWorkerRegistry implements WorkerRegistry {
         }
         connectionManager.getClient().ifPresent(zeebeClient -> {
             logger.info("openWorker() >> Open worker with type: {}", workerConfiguration.getType());
-            final JobWorker jobWorker = zeebeClient.newWorker()
-                    .jobType(workerConfiguration.getType())
-                    .handler(workerConfiguration.getHandler())
-                    .pollInterval(workerConfiguration.getPollInterval())
-                    .requestTimeout(workerConfiguration.getRequestTimeout())
-                    .fetchVariables(workerConfiguration.getFetchVariables())
-                    .maxJobsActive(workerConfiguration.getMaxJobsToActivate())
-                    .name(serviceName)
-                    .timeout(workerConfiguration.getTimeout())
-                    .open();
+            if (workerConfiguration.getHandler() instanceof ZeebeBatchJobHandler) {
+                activeWorkers.put(workerConfiguration.getType(), new ZeebeBatchJobPoller(zeebeClient,
+                        workerConfiguration, serviceName, (ZeebeBatchJobHandler) workerConfiguration.getHandler(),
+                        jobScheduler, pollBudget)
+                        .open());
+                return;
+            }
+            final JobPollerOptions options = JobPollerOptions.builder(zeebeClient, workerConfiguration, serviceName,
+                            concurrencyLimits.get(workerConfiguration.getType()), jobScheduler)
+                    .longPolling(pollBackoffConfiguration
+                            .flatMap(ZeebeConfiguration.PollBackoffConfiguration::isLongPolling)
+                            .orElse(false))
+                    .budget(pollBudget)
+                    .handoff(jobHandoff)
+                    .keyRateLimiter(keyRateLimiters.get(workerConfiguration.getType()),
+                            getCompletionDispatcher(workerConfiguration))
+                    .activeJobs(activeJobCounters.computeIfAbsent(workerConfiguration.getType(),
+                            type -> new ActiveJobCounter()))
+                    .build();
+            final JobWorker jobWorker = new ZeebeJobPoller(options).open();
             activeWorkers.put(workerConfiguration.getType(), jobWorker);
         });
     }
@@ -167,7 +617,9 @@ public class ZeebeWorkerRegistry implements WorkerRegistry {
         workerConfigurations.forEach((type, configuration) -> {
             Optional.ofNullable(activeWorkers.get(type))
                     .ifPresent(JobWorker::close);
-            openWorker(configuration);
+            // Workers that are stopped by the user or paused by the breaker stay so
+            if (configuration.isEnabled() && !pausedByBreaker.contains(type))
+                openWorker(configuration);
         });
     }
 
@@ -178,103 +630,22 @@ public class ZeebeWorkerRegistry implements WorkerRegistry {
         activeWorkers.entrySet().removeIf(e -> true);
     }
 
-    private Optional<WorkerConfiguration> getConfiguration(BeanDefinition<?> beanDefinition,
-                                                           ExecutableMethod<?, ?> method) {
-        logger.debug("getConfiguration() >> Get configuration for bean: {}", beanDefinition.getName());
-        final AnnotationValue<ZeebeWorker> annotation = method.getAnnotation(ZeebeWorker.class);
-        if (annotation == null)
-            return Optional.empty();
-
-        final WorkerConfiguration workerConfiguration = new WorkerConfiguration();
-        workerConfiguration.setEnabled(true);
-        final String type = annotation.stringValue(TYPE)
-                .filter(StringUtils::isNotEmpty)
-                .orElseGet(beanDefinition::getName);
-        workerConfiguration.setType(type);
-
-        final Duration timeout = annotation.stringValue(TIMEOUT)
-                .filter(StringUtils::isNotEmpty)
-                .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
-                .orElse(Duration.ofMinutes(5));
-        workerConfiguration.setTimeout(timeout);
-
-        final int maxJobsToActivate = annotation.intValue(MAX_JOBS_TO_ACTIVATE)
-                .orElse(32);
-        workerConfiguration.setMaxJobsToActivate(maxJobsToActivate);
-
-        annotation.longValue(POLL_INTERVAL)
-                .ifPresentOrElse(
-                        p -> workerConfiguration.setPollInterval(Duration.ofMillis(p)),
-                        () -> workerConfiguration.setPollInterval(Duration.ofMillis(100)));
-
-        final Duration requestTimeout = annotation.stringValue(REQUEST_TIMEOUT)
-                .filter(StringUtils::isNotEmpty)
-                .flatMap(t -> ConversionService.SHARED.convert(t, Duration.class))
-                .orElse(Duration.ofSeconds(10));
-        workerConfiguration.setRequestTimeout(requestTimeout);
-
-        final List<String> fetchVariables = getFetchVariableNames(method);
-        workerConfiguration.setFetchVariables(fetchVariables);
-
-        final Map<String, List<Class<? extends Throwable>>> errors = annotation.getAnnotations(ERRORS).stream()
-                .collect(Collectors.toMap(
-                        t -> t.stringValue(CODE).orElseThrow(),
-                        t -> Stream.of(t.classValues(THROWABLE))
-                                .map(e -> (Class<? extends Throwable>) e)
-                                .collect(Collectors.toList())));
-        workerConfiguration.setErrors(errors);
-
-        workerConfiguration.setMaxJobsToActivate(maxJobsToActivate);
-
-        final String outputVariableName = annotation.stringValue(OUTPUT_VARIABLE_NAME)
-                .filter(StringUtils::isNotEmpty)
-                .orElseGet(() -> beanDefinition.getBeanType().getSimpleName() + "_" + method.getName());
-        workerConfiguration.setOutputVariableName(outputVariableName);
-
-        final boolean autoComplete = annotation.booleanValue(AUTO_COMPLETE)
-                .orElse(Boolean.TRUE);
-        workerConfiguration.setAutoComplete(autoComplete);
-
-        return Optional.of(workerConfiguration);
-    }
-
-    private List<String> getFetchVariableNames(ExecutableMethod<?, ?> method) {
-        final List<String> variablesNames = new ArrayList<>();
-
-        Optional.ofNullable(method.getAnnotation(ZeebeWorker.class))
-                .ifPresent(annotation -> variablesNames.addAll(List.of(annotation
-                        .stringValues("fetchVariables"))));
-
-        Arrays.stream(method.getArguments())
-                .filter(argument -> argument.isAnnotationPresent(ZeebeContextVariable.class))
-                .map(argument -> argument.getAnnotationMetadata()
-                        .stringValue(ZeebeContextVariable.class)
-                        .orElse(argument.getName()))
-                .forEach(variablesNames::add);
-
-        Arrays.stream(method.getArguments())
-                .filter(argument -> argument.isAnnotationPresent(ZeebeContextMapper.class))
-                .flatMap(this::extractVariablesForMapper)
-                .forEach(variablesNames::add);
-
-        return variablesNames;
-    }
-
-    private Stream<String> extractVariablesForMapper(Argument<?> argument) {
-        final String path = argument.getAnnotationMetadata().stringValue(ZeebeContextMapper.class)
-                .orElse("");
-
-        if (StringUtils.isNotEmpty(path)) {
-            final String root = StringUtils.splitOmitEmptyStrings(path, '.').iterator().next();
-            return Stream.of(root);
-        }
-        return Arrays.stream(argument.getType().getDeclaredFields())
-                .map(Field::getName);
+    @PreDestroy
+    public void close() {
+        logger.debug("close() >> Close workers");
+        activeWorkers.values().forEach(JobWorker::close);
+        activeWorkers.clear();
+        jobScheduler.shutdown();
+        if (ringBufferDispatcher != null)
+            ringBufferDispatcher.close();
     }
 
     @Override
     public boolean stopWorker(String type) {
         try {
+            // The worker that is paused by the breaker stays stopped when the breaker is half-open
+            if (pausedByBreaker.remove(type))
+                workerConfigurations.get(type).setEnabled(false);
             final JobWorker activeJobWorker = activeWorkers.get(type);
             if (activeJobWorker == null) {
                 return true;
@@ -0,0 +1,276 @@
+package io.micronaut.configuration.zeebe.core.stream;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.grpc.Status;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.configuration.zeebe.core.connection.ZeebeClusterConnectionManager;
+import io.micronaut.configuration.zeebe.core.handler.JobCompletionDispatcher;
+import io.micronaut.configuration.zeebe.core.poller.PollBackoff;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.runtime.ApplicationConfiguration;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Reactive stream of activated jobs. The jobs are activated only on demand of
+ * the subscriber: every activation requests as many jobs as the subscriber has
+ * requested and not yet received, so a job is never activated before there is
+ * someone to handle it and its timeout isn't spent in a buffer. The stream can
+ * be composed with the operators of Reactor, e.g. {@code flatMap} with
+ * concurrency, {@code bufferTimeout} or {@code parallel}, and the jobs are
+ * finished by the completion operators of this bean.
+ * <pre>
+ * jobStream.jobs("payment")
+ *         .flatMap(job -&gt; charge(job)
+ *                 .flatMap(result -&gt; jobStream.complete(job, result))
+ *                 .onErrorResume(e -&gt; jobStream.fail(job, e.getMessage())), 16)
+ *         .subscribe();
+ * </pre>
+ * The completion operators retry the command on transient failures of the
+ * gateway, as the results of workers do.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+@Singleton
+@Requires(beans = ZeebeConfiguration.class)
+public class ZeebeJobStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(ZeebeJobStream.class);
+    private static final String STREAM = "job-stream";
+    private final ZeebeClusterConnectionManager connectionManager;
+    private final ZeebeConfiguration configuration;
+    private final String serviceName;
+    private final JobCompletionDispatcher completionDispatcher;
+    private final Scheduler scheduler = Schedulers.parallel();
+
+    @Inject
+    public ZeebeJobStream(ZeebeClusterConnectionManager connectionManager,
+                          ApplicationConfiguration applicationConfiguration,
+                          ZeebeConfiguration configuration) {
+        this.connectionManager = connectionManager;
+        this.configuration = configuration;
+        this.serviceName = applicationConfiguration.getName().orElse("UNKNOWN");
+        // The demand of subscriber limits the jobs in work, so the commands aren't limited
+        this.completionDispatcher = JobCompletionDispatcher.create(STREAM, Integer.MAX_VALUE,
+                connectionManager::getClient, configuration.getCompletionConfiguration());
+    }
+
+    /**
+     * Stream of jobs of the type with default settings: timeout of job is 5
+     * minutes, up to 32 jobs per activation, all variables are fetched.
+     *
+     * @param type Type of jobs
+     * @return Stream of activated jobs
+     */
+    public Flux<ActivatedJob> jobs(String type) {
+        final WorkerConfiguration workerConfiguration = new WorkerConfiguration();
+        workerConfiguration.setEnabled(true);
+        workerConfiguration.setType(type);
+        workerConfiguration.setTimeout(Duration.ofMinutes(5));
+        workerConfiguration.setMaxJobsToActivate(32);
+        workerConfiguration.setPollInterval(Duration.ofMillis(100));
+        final Optional<ZeebeConfiguration.PollBackoffConfiguration> pollBackoff =
+                Optional.ofNullable(configuration.getPollBackoffConfiguration());
+        workerConfiguration.setMaxPollInterval(pollBackoff
+                .flatMap(ZeebeConfiguration.PollBackoffConfiguration::getMaxInterval)
+                .orElse(null));
+        workerConfiguration.setPollBackoffMultiplier(pollBackoff
+                .flatMap(ZeebeConfiguration.PollBackoffConfiguration::getMultiplier)
+                .orElse(2.0));
+        workerConfiguration.setRequestTimeout(Duration.ofSeconds(10));
+        workerConfiguration.setFetchVariables(List.of());
+        return jobs(workerConfiguration);
+    }
+
+    /**
+     * Stream of jobs. The type, timeout, max jobs per activation, poll
+     * interval, request timeout and fetched variables are taken from the
+     * configuration.
+     *
+     * @param workerConfiguration Configuration of activation
+     * @return Stream of activated jobs
+     */
+    public Flux<ActivatedJob> jobs(WorkerConfiguration workerConfiguration) {
+        return Flux.create(sink -> new DemandActivation(workerConfiguration, sink).start());
+    }
+
+    /**
+     * Complete the job without variables
+     *
+     * @param job Activated job
+     * @return Mono that is completed when the broker acknowledges the command
+     */
+    public Mono<Void> complete(ActivatedJob job) {
+        return complete(job, null);
+    }
+
+    /**
+     * Complete the job
+     *
+     * @param job       Activated job
+     * @param variables Variables that are passed to the process, can be null
+     * @return Mono that is completed when the broker acknowledges the command
+     */
+    public Mono<Void> complete(ActivatedJob job, @Nullable Map<String, Object> variables) {
+        return dispatch(client -> completionDispatcher.complete(client, job, variables));
+    }
+
+    /**
+     * Fail the job, the retries of job are decreased by one
+     *
+     * @param job          Activated job
+     * @param errorMessage Error message
+     * @return Mono that is completed when the broker acknowledges the command
+     */
+    public Mono<Void> fail(ActivatedJob job, String errorMessage) {
+        return fail(job, job.getRetries() - 1, errorMessage);
+    }
+
+    /**
+     * Fail the job
+     *
+     * @param job          Activated job
+     * @param retries      Remaining retries of the job
+     * @param errorMessage Error message
+     * @return Mono that is completed when the broker acknowledges the command
+     */
+    public Mono<Void> fail(ActivatedJob job, int retries, String errorMessage) {
+        return dispatch(client -> completionDispatcher.fail(client, job, retries, errorMessage));
+    }
+
+    /**
+     * Throw business error for the job
+     *
+     * @param job          Activated job
+     * @param errorCode    Error code
+     * @param errorMessage Error message
+     * @return Mono that is completed when the broker acknowledges the command
+     */
+    public Mono<Void> throwError(ActivatedJob job, String errorCode, String errorMessage) {
+        return dispatch(client -> completionDispatcher.throwError(client, job, errorCode, errorMessage));
+    }
+
+    private Mono<Void> dispatch(Function<ZeebeClient, CompletableFuture<Void>> command) {
+        return Mono.defer(() -> connectionManager.getClient()
+                .map(client -> Mono.fromFuture(command.apply(client)))
+                .orElseGet(() -> Mono.error(new ClientStatusException(
+                        Status.UNAVAILABLE.withDescription("Connection to cluster is lost"), null))));
+    }
+
+    /**
+     * Activation of jobs for one subscriber. Only one activation is in progress
+     * at a time, it requests the outstanding demand of the subscriber capped by
+     * the max jobs to activate.
+     */
+    private final class DemandActivation {
+
+        private final WorkerConfiguration workerConfiguration;
+        private final FluxSink<ActivatedJob> sink;
+        private final PollBackoff backoff;
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private volatile boolean disposed;
+        private volatile Disposable scheduled;
+
+        private DemandActivation(WorkerConfiguration workerConfiguration, FluxSink<ActivatedJob> sink) {
+            this.workerConfiguration = workerConfiguration;
+            this.sink = sink;
+            this.backoff = new PollBackoff(workerConfiguration.getPollInterval(),
+                    workerConfiguration.getMaxPollInterval(), workerConfiguration.getPollBackoffMultiplier());
+        }
+
+        private void start() {
+            sink.onRequest(n -> poll());
+            sink.onDispose(() -> {
+                disposed = true;
+                final Disposable task = scheduled;
+                if (task != null)
+                    task.dispose();
+            });
+        }
+
+        private void poll() {
+            while (!disposed && sink.requestedFromDownstream() > 0 && polling.compareAndSet(false, true)) {
+                final long demand = sink.requestedFromDownstream();
+                if (demand > 0 && !disposed) {
+                    activateJobs((int) Math.min(demand, workerConfiguration.getMaxJobsToActivate()));
+                    return;
+                }
+                polling.set(false);
+            }
+        }
+
+        private void activateJobs(int count) {
+            final Optional<ZeebeClient> client = connectionManager.getClient();
+            if (client.isEmpty()) {
+                logger.debug("activateJobs() >> Connection to cluster is lost, delay activation of stream: {}",
+                        workerConfiguration.getType());
+                polling.set(false);
+                schedulePoll(backoff.next());
+                return;
+            }
+            logger.trace("activateJobs() >> Activate up to {} jobs of stream: {}", count, workerConfiguration.getType());
+            try {
+                client.get().newActivateJobsCommand()
+                        .jobType(workerConfiguration.getType())
+                        .maxJobsToActivate(count)
+                        .timeout(workerConfiguration.getTimeout())
+                        .workerName(serviceName)
+                        .fetchVariables(workerConfiguration.getFetchVariables())
+                        .requestTimeout(workerConfiguration.getRequestTimeout())
+                        .send()
+                        .whenComplete(this::onActivated);
+            } catch (RuntimeException e) {
+                onActivated(null, e);
+            }
+        }
+
+        private void onActivated(ActivateJobsResponse response, Throwable throwable) {
+            if (throwable != null) {
+                polling.set(false);
+                logger.warn("onActivated() >> Failed to activate jobs of stream: {}, because: {}",
+                        workerConfiguration.getType(), throwable.getMessage());
+                schedulePoll(backoff.next());
+                return;
+            }
+            final List<ActivatedJob> jobs = response.getJobs();
+            for (ActivatedJob job : jobs) {
+                sink.next(job);
+            }
+            polling.set(false);
+            if (jobs.isEmpty()) {
+                schedulePoll(backoff.next());
+            } else {
+                backoff.reset();
+                poll();
+            }
+        }
+
+        private void schedulePoll(Duration delay) {
+            if (!disposed)
+                scheduled = scheduler.schedule(this::poll, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory of executors that run every task on a new virtual thread. This is
+ * the implementation for Java 21 and newer, it is packed into
+ * {@code META-INF/versions/21} of the multi-release jar.
+ *
+ * @author Gromov Vitaly.
+ * @since 1.0.0
+ */
+public final class VirtualThreadExecutors {
+
+    private VirtualThreadExecutors() {
+    }
+
+    /**
+     * @return true if the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Create executor that starts a new virtual thread for every task.
+     *
+     * @param namePrefix Prefix of names of threads
+     * @return Executor or empty if virtual threads aren't supported
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor(String namePrefix) {
+        return Optional.of(Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name(namePrefix, 0)
+                .factory()));
+    }
+}
@@ -3,9 +3,11 @@ package io.micronaut.configuration.zeebe.core;
 import io.camunda.zeebe.client.api.response.DeploymentEvent;
 import io.camunda.zeebe.client.api.response.ProcessInstanceResult;
 import io.micronaut.configuration.zeebe.core.connection.ZeebeClusterConnectionManager;
+import io.micronaut.configuration.zeebe.core.mock.DispatchWorker;
 import io.micronaut.configuration.zeebe.core.mock.SyncWorker;
 import io.micronaut.configuration.zeebe.core.mock.TestData;
 import io.micronaut.configuration.zeebe.core.mock.dto.Dto;
+import io.micronaut.configuration.zeebe.core.registry.ZeebeWorkerRegistry;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import io.micronaut.test.support.TestPropertyProvider;
@@ -34,6 +36,9 @@ class ZeebeWorkerIntegrationTest extends ZeebeStarter implements TestPropertyPro
     @Inject
     SyncWorker syncWorker;
 
+    @Inject
+    DispatchWorker dispatchWorker;
+
     @BeforeEach
     void beforeEach() {
         workerContainers.forEach(TestData::drainTestData);
@@ -195,6 +200,43 @@ class ZeebeWorkerIntegrationTest extends ZeebeStarter implements TestPropertyPro
         assertEquals("throwResult22", result);
     }
 
+    @Test
+    void directDispatchTest() {
+        assertEquals(10, startDispatchProcess("bpmn/dispatch-test-worker-direct.bpmn", "dispatchTestWorkerDirect"));
+        final String thread = (String) dispatchWorker.getTestData(DispatchWorker.DISPATCH_TEST_WORKER_DIRECT);
+        assertTrue(thread.startsWith(ZeebeWorkerRegistry.JOB_WORKER_THREAD_PREFIX));
+    }
+
+    @Test
+    void offloadDispatchTest() {
+        assertEquals(10, startDispatchProcess("bpmn/dispatch-test-worker-offload.bpmn", "dispatchTestWorkerOffload"));
+        final String thread = (String) dispatchWorker.getTestData(DispatchWorker.DISPATCH_TEST_WORKER_OFFLOAD);
+        assertFalse(thread.startsWith(ZeebeWorkerRegistry.JOB_WORKER_THREAD_PREFIX));
+    }
+
+    @Test
+    void nonBlockingDispatchTest() {
+        assertEquals(10, startDispatchProcess("bpmn/dispatch-test-worker-nonblocking.bpmn",
+                "dispatchTestWorkerNonBlocking"));
+        final String thread = (String) dispatchWorker.getTestData(DispatchWorker.DISPATCH_TEST_WORKER_NONBLOCKING);
+        assertTrue(thread.startsWith(ZeebeWorkerRegistry.JOB_WORKER_THREAD_PREFIX));
+    }
+
+    @Test
+    void virtualDispatchTest() {
+        assertEquals(10, startDispatchProcess("bpmn/dispatch-test-worker-virtual.bpmn", "dispatchTestWorkerVirtual"));
+        final String thread = (String) dispatchWorker.getTestData(DispatchWorker.DISPATCH_TEST_WORKER_VIRTUAL);
+        // Without virtual threads the method is offloaded to the executor
+        assertFalse(thread.startsWith(ZeebeWorkerRegistry.JOB_WORKER_THREAD_PREFIX));
+    }
+
+    private Object startDispatchProcess(String schema, String bpmnProcessId) {
+        deploySchema(schema);
+        final Map<String, Object> payload = getMapFromPath("json/syncMultplyX2Payload.json");
+        final ProcessInstanceResult processInstanceResult = startProcessInSyncMode(bpmnProcessId, payload);
+        return processInstanceResult.getVariablesAsMap().get("result");
+    }
+
     @NotNull
     @Override
     public Map<String, String> getProperties() {
@@ -0,0 +1,90 @@
+package io.micronaut.configuration.zeebe.core.binder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.type.Argument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class StreamingVariablesExtractorTest extends Assertions {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void nestedValuesAreExtractedAndOtherFieldsSkipped() {
+        final StreamingVariablesExtractor extractor = StreamingVariablesExtractor.of(mapper,
+                List.of(List.of("id"), List.of("order", "customer", "name"), List.of("order", "total")),
+                List.of(Argument.of(String.class), Argument.of(String.class), Argument.of(double.class)))
+                .orElseThrow();
+
+        final Object[] values = extractor.extract("{\"items\":[{\"id\":\"item\"}],\"id\":\"a-1\","
+                + "\"order\":{\"customer\":{\"id\":3,\"name\":\"Ann\"},\"lines\":{\"total\":1},\"total\":12}}");
+
+        assertArrayEquals(new Object[]{"a-1", "Ann", 12.0}, values);
+    }
+
+    @Test
+    void absentValuesAreNull() {
+        final StreamingVariablesExtractor extractor = StreamingVariablesExtractor.of(mapper,
+                List.of(List.of("count"), List.of("order", "id")),
+                List.of(Argument.of(Integer.class), Argument.of(Long.class)))
+                .orElseThrow();
+
+        assertArrayEquals(new Object[]{null, null}, extractor.extract("{\"count\":null,\"order\":\"none\"}"));
+        assertArrayEquals(new Object[]{null, null}, extractor.extract("[1,2]"));
+    }
+
+    @Test
+    void overlappingPathsAreNotStreamed() {
+        final List<Argument<?>> arguments = List.of(Argument.of(String.class), Argument.of(String.class));
+
+        assertTrue(StreamingVariablesExtractor.of(mapper, List.of(List.of("order"), List.of("order", "id")),
+                arguments).isEmpty());
+        assertTrue(StreamingVariablesExtractor.of(mapper, List.of(List.of("order", "id"), List.of("order")),
+                arguments).isEmpty());
+        assertTrue(StreamingVariablesExtractor.of(mapper, List.of(List.of("id"), List.of()), arguments).isEmpty());
+    }
+
+    @Test
+    void onlyExactValuesAreReadFromToken() {
+        final StreamingVariablesExtractor extractor = StreamingVariablesExtractor.of(mapper,
+                List.of(List.of("int"), List.of("long"), List.of("text"), List.of("flag"), List.of("big")),
+                List.of(Argument.of(int.class), Argument.of(long.class), Argument.of(String.class),
+                        Argument.of(boolean.class), Argument.of(int.class)),
+                false)
+                .orElseThrow();
+
+        final Object[] exact = extractor.extract(
+                "{\"int\":5,\"long\":5,\"text\":\"a\",\"flag\":true,\"big\":10}");
+        assertArrayEquals(new Object[]{5, 5L, "a", true, 10}, exact);
+
+        final Object[] inexact = extractor.extract(
+                "{\"int\":\"5\",\"long\":1.5,\"text\":7,\"flag\":\"true\",\"big\":5000000000}");
+        for (Object value : inexact) {
+            assertSame(StreamingVariablesExtractor.UNRESOLVED, value);
+        }
+    }
+
+    @Test
+    void inexactValuesAreCoercedByMapper() {
+        final StreamingVariablesExtractor extractor = StreamingVariablesExtractor.of(mapper,
+                List.of(List.of("count"), List.of("ids")),
+                List.of(Argument.of(int.class), Argument.listOf(Long.class)))
+                .orElseThrow();
+
+        assertArrayEquals(new Object[]{5, List.of(1L, 2L)}, extractor.extract("{\"count\":\"5\",\"ids\":[1,2]}"));
+    }
+
+    @Test
+    void malformedDocumentIsRejected() {
+        final StreamingVariablesExtractor extractor = StreamingVariablesExtractor.of(mapper,
+                List.of(List.of("id"), List.of("count")),
+                List.of(Argument.of(String.class), Argument.of(int.class)))
+                .orElseThrow();
+
+        assertThrows(IllegalArgumentException.class, () -> extractor.extract("{\"id\":\"a-1\",\"count\":"));
+        // The parsing stops when all values are found, so the rest of document isn't read
+        assertArrayEquals(new Object[]{"a-1", 5}, extractor.extract("{\"id\":\"a-1\",\"count\":5,]"));
+    }
+}
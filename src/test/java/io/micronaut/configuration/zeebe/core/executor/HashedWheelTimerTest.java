@@ -0,0 +1,78 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.awaitility.Awaitility.await;
+
+class HashedWheelTimerTest extends Assertions {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(10), 4);
+
+    @AfterEach
+    void shutdown() {
+        timer.close();
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires() {
+        final AtomicInteger cancelledRuns = new AtomicInteger();
+        final AtomicInteger expiredRuns = new AtomicInteger();
+        final HashedWheelTimer.Timeout cancelled = timer.schedule(cancelledRuns::incrementAndGet,
+                50, TimeUnit.MILLISECONDS);
+        final HashedWheelTimer.Timeout expired = timer.schedule(expiredRuns::incrementAndGet,
+                50, TimeUnit.MILLISECONDS);
+        assertEquals(2, timer.getPendingCount());
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertEquals(1, timer.getPendingCount());
+
+        await().until(expired::isExpired);
+        await().during(Duration.ofMillis(200))
+                .atMost(Duration.ofSeconds(1))
+                .until(() -> cancelledRuns.get() == 0);
+        assertEquals(1, expiredRuns.get());
+        assertFalse(cancelled.isExpired());
+        assertFalse(expired.cancel());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    void delayLongerThanWheelWaitsForItsRounds() {
+        final long start = System.nanoTime();
+        final AtomicLong expiredAfter = new AtomicLong(-1);
+        // The wheel turns every 40 ms, so the timeout waits for 3 rounds
+        final HashedWheelTimer.Timeout timeout = timer.schedule(
+                () -> expiredAfter.set(System.nanoTime() - start), 150, TimeUnit.MILLISECONDS);
+
+        await().atMost(Duration.ofSeconds(2)).until(timeout::isExpired);
+        assertTrue(expiredAfter.get() >= TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void failedTaskDoesNotStopTimer() {
+        timer.schedule(() -> {
+            throw new IllegalStateException("Task failed");
+        }, 0, TimeUnit.MILLISECONDS);
+        final HashedWheelTimer.Timeout next = timer.schedule(() -> {
+        }, 20, TimeUnit.MILLISECONDS);
+
+        await().atMost(Duration.ofSeconds(1)).until(next::isExpired);
+    }
+
+    @Test
+    void closedTimerRejectsTimeouts() {
+        timer.close();
+
+        assertThrows(RejectedExecutionException.class, () -> timer.schedule(() -> {
+        }, 10, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,86 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+class RingBufferDispatcherTest extends Assertions {
+
+    private final RingBufferDispatcher dispatcher = new RingBufferDispatcher(2, 1, WaitStrategy.PARK);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+    // Names of threads that ran the tasks
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        released.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    void fullBufferRunsTaskOnCaller() throws InterruptedException {
+        blockConsumer();
+        dispatcher.execute(this::recordThread);
+        dispatcher.execute(this::recordThread);
+        assertEquals(2, dispatcher.getSize());
+
+        dispatcher.execute(this::recordThread);
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+        assertEquals(1, dispatcher.getRejectedCount());
+
+        released.countDown();
+        await().until(() -> threads.size() == 3);
+        assertTrue(threads.get(1).startsWith("zeebe-ring-"));
+        assertTrue(threads.get(2).startsWith("zeebe-ring-"));
+        assertEquals(0, dispatcher.getSize());
+    }
+
+    @Test
+    void closedDispatcherDrainsPublishedTasks() throws InterruptedException {
+        blockConsumer();
+        dispatcher.execute(this::recordThread);
+        dispatcher.execute(this::recordThread);
+
+        dispatcher.close();
+        assertThrows(RejectedExecutionException.class, () -> dispatcher.execute(this::recordThread));
+
+        released.countDown();
+        await().until(() -> threads.size() == 2);
+        assertEquals(0, dispatcher.getRejectedCount());
+    }
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        try (RingBufferDispatcher rounded = new RingBufferDispatcher(1000, 1, WaitStrategy.YIELD)) {
+            assertEquals(1024, rounded.getCapacity());
+        }
+    }
+
+    /**
+     * Occupy the only consumer, so the published tasks stay in the buffer.
+     */
+    private void blockConsumer() throws InterruptedException {
+        dispatcher.execute(() -> {
+            started.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+    }
+
+    private void recordThread() {
+        threads.add(Thread.currentThread().getName());
+    }
+}
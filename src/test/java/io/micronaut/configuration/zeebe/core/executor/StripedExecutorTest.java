@@ -0,0 +1,90 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+
+class StripedExecutorTest extends Assertions {
+
+    private final StripedExecutor executor = new StripedExecutor(16);
+    private final ExecutorService workers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void stripesAreRoundedUpToPowerOfTwo() {
+        assertEquals(16, new StripedExecutor(10).getStripes());
+        assertEquals(1, new StripedExecutor(0).getStripes());
+    }
+
+    @Test
+    void nextTaskOfKeyWaitsForAsyncTask() {
+        final CompletableFuture<String> firstWork = new CompletableFuture<>();
+        final CompletableFuture<String> first = executor.submit(1, () -> firstWork);
+        final CompletableFuture<String> second = executor.submit(1, () -> CompletableFuture.completedFuture("second"));
+
+        assertFalse(second.isDone());
+
+        firstWork.complete("first");
+        assertEquals("first", first.join());
+        assertEquals("second", second.join());
+    }
+
+    @Test
+    void tasksOfOneKeyRunInOrderOfSubmission() {
+        final List<Integer> started = new CopyOnWriteArrayList<>();
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int task = i;
+            results.add(executor.submit(7, () -> {
+                started.add(task);
+                return CompletableFuture.supplyAsync(() -> {
+                    sleep(task % 3);
+                    return task;
+                }, workers);
+            }));
+        }
+
+        await().until(() -> results.stream().allMatch(CompletableFuture::isDone));
+        final List<Integer> expected = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        assertEquals(expected, started);
+        assertEquals(expected, results.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    @Test
+    void failedTaskDoesNotBlockItsKey() {
+        final CompletableFuture<String> failed = executor.submit(3, () -> {
+            throw new IllegalStateException("Task failed");
+        });
+        final CompletableFuture<String> rejected = executor.submit(3,
+                () -> CompletableFuture.failedFuture(new IllegalStateException("Job rejected")));
+        final CompletableFuture<String> next = executor.submit(3, () -> CompletableFuture.completedFuture("next"));
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertTrue(rejected.isCompletedExceptionally());
+        assertEquals("next", next.join());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.micronaut.configuration.zeebe.core.executor;
+
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+class WorkerExecutorTest extends Assertions {
+
+    private final WorkerExecutor executor = WorkerExecutor.create(newConfiguration(Map.of(
+            "getCorePoolSize", 1,
+            "getQueueCapacity", 1)));
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        released.countDown();
+        executor.close();
+    }
+
+    @Test
+    void everyProbeObservesRejections() throws InterruptedException {
+        final BooleanSupplier first = executor.saturationProbe();
+        final BooleanSupplier second = executor.saturationProbe();
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.getExecutorService().execute(() -> {
+            started.countDown();
+            await(released);
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        executor.getExecutorService().execute(() -> {
+        });
+        assertFalse(first.getAsBoolean());
+
+        // The queue is full, so the task is rejected and run by the caller
+        executor.getExecutorService().execute(() -> {
+        });
+        assertEquals(1, executor.getRejectedCount());
+        assertTrue(first.getAsBoolean());
+        assertTrue(second.getAsBoolean());
+        assertFalse(first.getAsBoolean());
+        assertFalse(second.getAsBoolean());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param values Values of the configuration by name of getter
+     * @return Configuration that has only the given values
+     */
+    private static ZeebeConfiguration.WorkerExecutorConfiguration newConfiguration(Map<String, Object> values) {
+        return (ZeebeConfiguration.WorkerExecutorConfiguration) Proxy.newProxyInstance(
+                ZeebeConfiguration.class.getClassLoader(),
+                new Class<?>[]{ZeebeConfiguration.WorkerExecutorConfiguration.class},
+                (proxy, method, args) -> Optional.ofNullable(values.get(method.getName())));
+    }
+}
@@ -0,0 +1,57 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.awaitility.Awaitility.await;
+
+class CompletedJobCacheTest extends Assertions {
+
+    @Test
+    void completionIsAnsweredFromCache() {
+        final CompletedJobCache cache = new CompletedJobCache(Duration.ofMinutes(1), 16);
+        cache.put(1, null);
+        cache.put(2, Map.of("result", 10));
+        cache.put(2, Map.of("result", 20));
+
+        assertEquals(Map.of(), cache.getVariables(1));
+        assertEquals(Map.of("result", 10), cache.getVariables(2));
+        assertNull(cache.getVariables(3));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    void oldestJobIsEvictedWhenCacheIsFull() {
+        final int maxSize = 64;
+        final CompletedJobCache cache = new CompletedJobCache(Duration.ofMinutes(1), maxSize);
+        // The table is half full, so evictions shift back the colliding entries of many probe sequences
+        for (long key = 1; key <= 1000; key++) {
+            cache.put(key, Map.of("key", key));
+
+            assertEquals(Math.min(key, maxSize), cache.size());
+            assertNull(cache.getVariables(key - maxSize));
+            for (long kept = Math.max(1, key - maxSize + 1); kept <= key; kept++) {
+                assertEquals(Map.of("key", kept), cache.getVariables(kept), "Job " + kept + " is lost");
+            }
+        }
+    }
+
+    @Test
+    void expiredJobsAreRemovedInOrderOfInsertion() {
+        final CompletedJobCache cache = new CompletedJobCache(Duration.ofMillis(100), 16);
+        cache.put(1, null);
+        cache.put(2, null);
+
+        await().until(() -> cache.getVariables(1) == null);
+        assertNull(cache.getVariables(2));
+        assertEquals(2, cache.size());
+
+        cache.put(3, null);
+        assertEquals(1, cache.size());
+        assertEquals(Map.of(), cache.getVariables(3));
+    }
+}
@@ -0,0 +1,53 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.micronaut.configuration.zeebe.core.mock.FakeZeebeClient;
+import io.micronaut.configuration.zeebe.core.mock.TestJob;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+class JobCompletionDispatcherTest extends Assertions {
+
+    private final FakeZeebeClient client = new FakeZeebeClient();
+    private final JobCompletionDispatcher dispatcher = new JobCompletionDispatcher("test", 2);
+
+    @Test
+    void fullWindowQueuesCommandsWithoutBlocking() {
+        final CompletableFuture<Void> first = dispatcher.complete(client.getClient(), new TestJob(1, "{}"), null);
+        final CompletableFuture<Void> second = dispatcher.fail(client.getClient(), new TestJob(2, "{}"), 2, "error");
+        final CompletableFuture<Void> third = dispatcher.throwError(client.getClient(), new TestJob(3, "{}"),
+                "code", "error");
+
+        assertEquals(2, dispatcher.getInFlight());
+        assertEquals(1, dispatcher.getPending());
+        assertEquals(1, client.getCommands("complete").size());
+        assertEquals(1, client.getCommands("fail").size());
+        assertTrue(client.getCommands("throwError").isEmpty());
+
+        client.getCommands("complete").get(0).acknowledge();
+        assertTrue(first.isDone());
+        assertEquals(3, client.getCommands("throwError").get(0).getJobKey());
+        assertEquals(2, dispatcher.getInFlight());
+        assertEquals(0, dispatcher.getPending());
+
+        client.getCommands("fail").get(0).acknowledge();
+        client.getCommands("throwError").get(0).acknowledge();
+        assertTrue(second.isDone());
+        assertTrue(third.isDone());
+        assertEquals(0, dispatcher.getInFlight());
+    }
+
+    @Test
+    void rejectedCommandFreesItsSlot() {
+        final CompletableFuture<Void> first = dispatcher.complete(client.getClient(), new TestJob(1, "{}"), null);
+        dispatcher.complete(client.getClient(), new TestJob(2, "{}"), null);
+        dispatcher.complete(client.getClient(), new TestJob(3, "{}"), null);
+
+        client.getCommands("complete").get(0).reject(new IllegalStateException("Job is not found"));
+
+        assertTrue(first.isCompletedExceptionally());
+        assertEquals(3, client.getCommands("complete").size());
+        assertEquals(2, dispatcher.getInFlight());
+    }
+}
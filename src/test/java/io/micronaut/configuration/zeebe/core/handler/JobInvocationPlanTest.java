@@ -0,0 +1,153 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextMapper;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextVariable;
+import io.micronaut.configuration.zeebe.core.binder.JobBinderRegistry;
+import io.micronaut.configuration.zeebe.core.binder.ZeebeContextMapperBinder;
+import io.micronaut.configuration.zeebe.core.binder.ZeebeContextVariablesBinder;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.configuration.zeebe.core.mock.TestJob;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+class JobInvocationPlanTest extends Assertions {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JobBinderRegistry BINDERS = new JobBinderRegistry(
+            new ZeebeContextVariablesBinder<>(), new ZeebeContextMapperBinder<>(MAPPER));
+    private static ApplicationContext context;
+
+    @BeforeAll
+    static void startContext() {
+        // Only the bean definition of worker is needed, so the Zeebe beans are disabled
+        context = ApplicationContext.run(Map.of(ZeebeConfiguration.ZEEBE_DEFAULT + ".enabled", StringUtils.FALSE));
+    }
+
+    @AfterAll
+    static void stopContext() {
+        context.close();
+    }
+
+    @Test
+    void resultKindIsResolvedOnce() {
+        assertEquals(JobInvocationPlan.ResultKind.VOID, compile("handle", false).getResultKind());
+        assertEquals(JobInvocationPlan.ResultKind.SYNC, compile("sync", false).getResultKind());
+        assertEquals(JobInvocationPlan.ResultKind.ASYNC, compile("async", false).getResultKind());
+        assertEquals(JobInvocationPlan.ResultKind.MONO, compile("mono", false).getResultKind());
+        assertEquals(JobInvocationPlan.ResultKind.FLUX, compile("flux", false).getResultKind());
+    }
+
+    @Test
+    void valuesAreBoundToArguments() {
+        final JobInvocationPlan plan = compile("handle", false);
+
+        assertArrayEquals(new Object[]{5, "Ann", 7L},
+                bind(plan, "{\"count\":5,\"order\":{\"customer\":{\"name\":\"Ann\"}}}"));
+        assertArrayEquals(new Object[]{5, null, 7L}, bind(plan, "{\"count\":5}"));
+    }
+
+    @Test
+    void streamedValuesAreBoundWithoutParsingVariables() {
+        final JobInvocationPlan plan = compile("handle", true);
+        // Variables of the test job can't be parsed, so the values come only from the stream
+        final TestJob job = new TestJob(7, "{\"items\":[1,2],\"count\":5,"
+                + "\"order\":{\"id\":1,\"customer\":{\"name\":\"Ann\"}}}");
+
+        assertArrayEquals(new Object[]{5, "Ann", 7L}, plan.bind(job));
+        assertArrayEquals(new Object[]{5, null, 7L}, plan.bind(new TestJob(7, "{\"count\":5}")));
+    }
+
+    @Test
+    void streamedValuesAreBoundAsByBinders() {
+        final String variables = "{\"count\":5,\"order\":{\"customer\":{\"name\":\"Ann\"}}}";
+
+        assertArrayEquals(bind(compile("handle", false), variables), bind(compile("handle", true), variables));
+    }
+
+    @Test
+    void inexactValueIsCoercedByBinder() {
+        final JobInvocationPlan plan = compile("handle", true);
+
+        assertArrayEquals(new Object[]{5, "Ann", 7L},
+                bind(plan, "{\"count\":\"5\",\"order\":{\"customer\":{\"name\":\"Ann\"}}}"));
+    }
+
+    @Test
+    void malformedVariablesAreBoundByBinders() {
+        final JobInvocationPlan plan = compile("handle", true);
+
+        assertThrows(UnsupportedOperationException.class, () -> plan.bind(new TestJob(7, "{\"count\":")));
+    }
+
+    @Test
+    void absentRequiredValueIsUnsatisfied() {
+        assertThrows(UnsatisfiedArgumentException.class, () -> bind(compile("handle", false), "{\"count\":null}"));
+        assertThrows(UnsatisfiedArgumentException.class,
+                () -> compile("handle", true).bind(new TestJob(7, "{\"count\":null}")));
+    }
+
+    private static Object[] bind(JobInvocationPlan plan, String variables) {
+        return plan.bind(new ParsedActivatedJob(new TestJob(7, variables), MAPPER));
+    }
+
+    private static JobInvocationPlan compile(String methodName, boolean streamVariables) {
+        final ExecutableMethod<?, ?> method = context.getBeanDefinition(Worker.class).getExecutableMethods()
+                .stream()
+                .filter(executableMethod -> executableMethod.getMethodName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        final WorkerConfiguration configuration = new WorkerConfiguration();
+        configuration.setType("test");
+        configuration.setErrors(Map.of());
+        configuration.setStreamVariables(streamVariables);
+        return JobInvocationPlan.compile(configuration, method, BINDERS, MAPPER);
+    }
+
+    @Singleton
+    @Requires(property = ZeebeConfiguration.ZEEBE_DEFAULT + ".enabled", value = StringUtils.FALSE)
+    static class Worker {
+
+        @Executable
+        void handle(@ZeebeContextVariable("count") int count,
+                    @Nullable @ZeebeContextMapper(path = "order.customer.name") String name,
+                    long key) {
+        }
+
+        @Executable
+        int sync() {
+            return 1;
+        }
+
+        @Executable
+        CompletableFuture<Integer> async() {
+            return CompletableFuture.completedFuture(1);
+        }
+
+        @Executable
+        Mono<Integer> mono() {
+            return Mono.just(1);
+        }
+
+        @Executable
+        Flux<Integer> flux() {
+            return Flux.just(1);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micronaut.configuration.zeebe.core.mock.TestJob;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.type.Argument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+
+class JobQuarantineTest extends Assertions {
+
+    private static final FailureClassifier DEFAULT_CLASSIFIER = FailureClassifier.of(
+            JobQuarantine.DEFAULT_DETERMINISTIC_EXCEPTIONS, JobQuarantine.DEFAULT_TRANSIENT_EXCEPTIONS);
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    @Test
+    void classifiedFailuresAreDecidedAtOnce() {
+        final FailureClassifier validation = (job, cause) -> cause instanceof IllegalArgumentException
+                ? FailureClassifier.Kind.DETERMINISTIC
+                : FailureClassifier.Kind.UNKNOWN;
+        final JobQuarantine quarantine = new JobQuarantine("test", List.of(validation, DEFAULT_CLASSIFIER), 0, WINDOW, 16);
+
+        assertTrue(quarantine.isPoison(job(1), new UnsatisfiedArgumentException(Argument.of(String.class, "order"))));
+        assertTrue(quarantine.isPoison(job(2), new IllegalArgumentException("Invalid order")));
+        assertTrue(quarantine.isPoison(job(3), new IllegalStateException(
+                new UnsatisfiedArgumentException(Argument.of(String.class, "order")))));
+        assertFalse(quarantine.isPoison(job(4), new ConnectException("Connection refused")));
+        assertFalse(quarantine.isPoison(job(5), new IllegalStateException("Unknown")));
+        assertEquals(3, quarantine.getQuarantinedCount());
+    }
+
+    @Test
+    void transientClassifierWinsOverRepeats() {
+        final JobQuarantine quarantine = new JobQuarantine("test", List.of(DEFAULT_CLASSIFIER), 2, WINDOW, 16);
+
+        for (long key = 1; key <= 5; key++)
+            assertFalse(quarantine.isPoison(job(key), new ConnectException("Connection refused")));
+        assertEquals(0, quarantine.getQuarantinedCount());
+    }
+
+    @Test
+    void fingerprintOfDifferentJobsIsQuarantined() {
+        final JobQuarantine quarantine = new JobQuarantine("test", List.of(DEFAULT_CLASSIFIER), 3, WINDOW, 16);
+
+        assertFalse(quarantine.isPoison(job(1), new IllegalStateException("Order 10 has no items")));
+        assertFalse(quarantine.isPoison(job(1), new IllegalStateException("Order 10 has no items")));
+        assertFalse(quarantine.isPoison(job(2), new IllegalStateException("Order 20 has no items")));
+        assertFalse(quarantine.isPoison(job(4), new IllegalStateException("Order 40 is locked")));
+        assertTrue(quarantine.isPoison(job(3), new IllegalStateException("Order 30 has no items")));
+        assertTrue(quarantine.isPoison(job(5), new IllegalStateException("Order 50 has no items")));
+        assertFalse(quarantine.isPoison(job(6), new IllegalArgumentException("Order 60 has no items")));
+        assertEquals(2, quarantine.getQuarantinedCount());
+    }
+
+    @Test
+    void leastRecentFingerprintIsEvicted() {
+        final JobQuarantine quarantine = new JobQuarantine("test", List.of(), 2, WINDOW, 1);
+
+        assertFalse(quarantine.isPoison(job(1), new IllegalStateException("First")));
+        assertFalse(quarantine.isPoison(job(2), new IllegalStateException("Second")));
+        assertFalse(quarantine.isPoison(job(3), new IllegalStateException("First")));
+        assertTrue(quarantine.isPoison(job(4), new IllegalStateException("First")));
+    }
+
+    @Test
+    void fingerprintIsNotPoisonAfterWindow() {
+        final JobQuarantine quarantine = new JobQuarantine("test", List.of(), 2, Duration.ofMillis(100), 16);
+
+        assertFalse(quarantine.isPoison(job(1), new IllegalStateException("Order 10 has no items")));
+        assertTrue(quarantine.isPoison(job(2), new IllegalStateException("Order 20 has no items")));
+        assertTrue(quarantine.isPoison(job(3), new IllegalStateException("Order 30 has no items")));
+
+        // The first failure of the new window starts the count again
+        await().until(() -> !quarantine.isPoison(job(4), new IllegalStateException("Order 40 has no items")));
+        assertTrue(quarantine.isPoison(job(5), new IllegalStateException("Order 50 has no items")));
+    }
+
+    private static ActivatedJob job(long key) {
+        return new TestJob(key, "{}");
+    }
+}
@@ -0,0 +1,59 @@
+package io.micronaut.configuration.zeebe.core.handler;
+
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.mock.TestJob;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.type.Argument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class JobRetryPolicyTest extends Assertions {
+
+    private final TestJob job = new TestJob(1, "{}");
+
+    @Test
+    void anyExceptionButBindingFailureIsRetriedByDefault() {
+        final JobRetryPolicy policy = JobRetryPolicy.of(newConfiguration(List.of()), e -> Optional.empty());
+
+        assertEquals(100, policy.getDelayMillis(job, 1, new IOException("Connection reset")));
+        assertEquals(200, policy.getDelayMillis(job, 2, new IllegalStateException("Busy")));
+        assertEquals(-1, policy.getDelayMillis(job, 3, new IOException("Connection reset")));
+        assertEquals(-1, policy.getDelayMillis(job, 1,
+                new UnsatisfiedArgumentException(Argument.of(String.class, "order"))));
+    }
+
+    @Test
+    void onlyListedExceptionsWithoutErrorCodeAreRetried() {
+        final JobRetryPolicy policy = JobRetryPolicy.of(newConfiguration(List.of(IOException.class)),
+                e -> Optional.ofNullable(Map.of("Duplicate", "DUPLICATE").get(e.getMessage())));
+
+        assertEquals(100, policy.getDelayMillis(job, 1, new IOException("Connection reset")));
+        assertEquals(-1, policy.getDelayMillis(job, 1, new IOException("Duplicate")));
+        assertEquals(-1, policy.getDelayMillis(job, 1, new IllegalStateException("Busy")));
+    }
+
+    @Test
+    void retryIsNotStartedAfterDeadline() {
+        final JobRetryPolicy policy = JobRetryPolicy.of(newConfiguration(List.of()), e -> Optional.empty());
+        final TestJob expiring = new TestJob(2, "test", "{}", 3, System.currentTimeMillis() + 50, Map.of());
+
+        assertEquals(-1, policy.getDelayMillis(expiring, 1, new IOException("Connection reset")));
+    }
+
+    private static WorkerConfiguration newConfiguration(List<Class<? extends Throwable>> retryOn) {
+        final WorkerConfiguration configuration = new WorkerConfiguration();
+        configuration.setType("test");
+        configuration.setRetryMaxAttempts(3);
+        configuration.setRetryBackoff(Duration.ofMillis(100));
+        configuration.setRetryMaxBackoff(Duration.ofSeconds(1));
+        configuration.setRetryMultiplier(2);
+        configuration.setRetryOn(retryOn);
+        return configuration;
+    }
+}
@@ -0,0 +1,67 @@
+package io.micronaut.configuration.zeebe.core.mock;
+
+import io.micronaut.configuration.zeebe.core.annotation.job.DispatchMode;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeContextVariable;
+import io.micronaut.configuration.zeebe.core.annotation.job.ZeebeWorker;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Workers with explicit dispatch modes, the name of thread on which the method
+ * is invoked is kept as test data of the worker.
+ */
+@Singleton
+public class DispatchWorker implements TestData {
+
+    private static final Logger logger = LoggerFactory.getLogger(DispatchWorker.class);
+    public static final String DISPATCH_TEST_WORKER_DIRECT = "dispatch-test-worker-direct";
+    public static final String DISPATCH_TEST_WORKER_OFFLOAD = "dispatch-test-worker-offload";
+    public static final String DISPATCH_TEST_WORKER_NONBLOCKING = "dispatch-test-worker-nonblocking";
+    public static final String DISPATCH_TEST_WORKER_VIRTUAL = "dispatch-test-worker-virtual";
+
+    private Map<String, Object> testData = new ConcurrentHashMap<>();
+
+    @ZeebeWorker(type = DISPATCH_TEST_WORKER_DIRECT, outputVariableName = "result", dispatch = DispatchMode.DIRECT)
+    public int directWorker(@ZeebeContextVariable("valueToMultiply") final int value) {
+        logger.debug("directWorker() >> value: {}", value);
+        testData.put(DISPATCH_TEST_WORKER_DIRECT, Thread.currentThread().getName());
+        return value * 2;
+    }
+
+    @ZeebeWorker(type = DISPATCH_TEST_WORKER_OFFLOAD, outputVariableName = "result", dispatch = DispatchMode.OFFLOAD)
+    public int offloadWorker(@ZeebeContextVariable("valueToMultiply") final int value) {
+        logger.debug("offloadWorker() >> value: {}", value);
+        testData.put(DISPATCH_TEST_WORKER_OFFLOAD, Thread.currentThread().getName());
+        return value * 2;
+    }
+
+    @ZeebeWorker(type = DISPATCH_TEST_WORKER_NONBLOCKING, outputVariableName = "result",
+            dispatch = DispatchMode.NONBLOCKING)
+    public Mono<Integer> nonBlockingWorker(@ZeebeContextVariable("valueToMultiply") final int value) {
+        logger.debug("nonBlockingWorker() >> value: {}", value);
+        testData.put(DISPATCH_TEST_WORKER_NONBLOCKING, Thread.currentThread().getName());
+        return Mono.just(value * 2);
+    }
+
+    @ZeebeWorker(type = DISPATCH_TEST_WORKER_VIRTUAL, outputVariableName = "result", dispatch = DispatchMode.VIRTUAL)
+    public int virtualWorker(@ZeebeContextVariable("valueToMultiply") final int value) {
+        logger.debug("virtualWorker() >> value: {}", value);
+        testData.put(DISPATCH_TEST_WORKER_VIRTUAL, Thread.currentThread().getName());
+        return value * 2;
+    }
+
+    @Override
+    public Object getTestData(String workerName) {
+        return testData.get(workerName);
+    }
+
+    @Override
+    public void drainTestData() {
+        testData = new ConcurrentHashMap<>();
+    }
+}
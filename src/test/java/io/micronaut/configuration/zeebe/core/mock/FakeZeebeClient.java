@@ -0,0 +1,134 @@
+package io.micronaut.configuration.zeebe.core.mock;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
+import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1;
+import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.impl.ZeebeClientFutureImpl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Zeebe client that records the job commands instead of sending them, the
+ * test answers a command by completing its response.
+ */
+public class FakeZeebeClient {
+
+    private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+    private final ZeebeClient client = (ZeebeClient) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{ZeebeClient.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "newActivateJobsCommand":
+                        return newCommand("activate", 0, ActivateJobsCommandStep1.class,
+                                ActivateJobsCommandStep1.ActivateJobsCommandStep2.class,
+                                ActivateJobsCommandStep1.ActivateJobsCommandStep3.class);
+                    case "newCompleteCommand":
+                        return newCommand("complete", getKey(args[0]), CompleteJobCommandStep1.class);
+                    case "newFailCommand":
+                        return newCommand("fail", getKey(args[0]), FailJobCommandStep1.class,
+                                FailJobCommandStep1.FailJobCommandStep2.class);
+                    case "newThrowErrorCommand":
+                        return newCommand("throwError", getKey(args[0]), ThrowErrorCommandStep1.class,
+                                ThrowErrorCommandStep1.ThrowErrorCommandStep2.class);
+                    case "toString":
+                        return "FakeZeebeClient";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+
+    public ZeebeClient getClient() {
+        return client;
+    }
+
+    /**
+     * @return the sent commands with the name, in the order of sending
+     */
+    public List<Command> getCommands(String name) {
+        return commands.stream()
+                .filter(command -> command.name.equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private Object newCommand(String name, long jobKey, Class<?>... steps) {
+        final Command command = new Command(name, jobKey);
+        return Proxy.newProxyInstance(getClass().getClassLoader(), steps, (proxy, method, args) -> {
+            if (method.getName().equals("send")) {
+                commands.add(command);
+                return command.response;
+            }
+            command.record(method, args);
+            return method.getReturnType().isInstance(proxy) ? proxy : null;
+        });
+    }
+
+    private static long getKey(Object job) {
+        return (job instanceof ActivatedJob) ? ((ActivatedJob) job).getKey() : (Long) job;
+    }
+
+    /**
+     * Command that is sent to the broker
+     */
+    public static class Command {
+
+        private final String name;
+        private final long jobKey;
+        private final ZeebeClientFutureImpl<Object, Object> response = new ZeebeClientFutureImpl<>();
+        private volatile int retries = -1;
+        private volatile int maxJobsToActivate;
+
+        private Command(String name, long jobKey) {
+            this.name = name;
+            this.jobKey = jobKey;
+        }
+
+        private void record(Method method, Object[] args) {
+            if (method.getName().equals("retries"))
+                retries = (Integer) args[0];
+            if (method.getName().equals("maxJobsToActivate"))
+                maxJobsToActivate = (Integer) args[0];
+        }
+
+        /**
+         * Acknowledge the command.
+         */
+        public void acknowledge() {
+            response.complete(null);
+        }
+
+        /**
+         * Answer the activation with the jobs.
+         */
+        public void activate(List<ActivatedJob> jobs) {
+            response.complete((ActivateJobsResponse) () -> jobs);
+        }
+
+        public void reject(Throwable throwable) {
+            response.completeExceptionally(throwable);
+        }
+
+        public long getJobKey() {
+            return jobKey;
+        }
+
+        public int getRetries() {
+            return retries;
+        }
+
+        public int getMaxJobsToActivate() {
+            return maxJobsToActivate;
+        }
+    }
+}
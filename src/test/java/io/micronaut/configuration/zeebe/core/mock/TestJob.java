@@ -0,0 +1,112 @@
+package io.micronaut.configuration.zeebe.core.mock;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+
+import java.util.Map;
+
+/**
+ * Activated job with the given key, variables and deadline.
+ */
+public class TestJob implements ActivatedJob {
+
+    private final long key;
+    private final String type;
+    private final String variables;
+    private final int retries;
+    private final long deadline;
+    private final Map<String, String> headers;
+
+    public TestJob(long key, String variables) {
+        this(key, "test", variables, 3, System.currentTimeMillis() + 60_000, Map.of());
+    }
+
+    public TestJob(long key, String type, String variables, int retries, long deadline,
+                   Map<String, String> headers) {
+        this.key = key;
+        this.type = type;
+        this.variables = variables;
+        this.retries = retries;
+        this.deadline = deadline;
+        this.headers = headers;
+    }
+
+    @Override
+    public long getKey() {
+        return key;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public long getProcessInstanceKey() {
+        return key;
+    }
+
+    @Override
+    public String getBpmnProcessId() {
+        return "process";
+    }
+
+    @Override
+    public int getProcessDefinitionVersion() {
+        return 1;
+    }
+
+    @Override
+    public long getProcessDefinitionKey() {
+        return 1;
+    }
+
+    @Override
+    public String getElementId() {
+        return "task";
+    }
+
+    @Override
+    public long getElementInstanceKey() {
+        return key;
+    }
+
+    @Override
+    public Map<String, String> getCustomHeaders() {
+        return headers;
+    }
+
+    @Override
+    public String getWorker() {
+        return "worker";
+    }
+
+    @Override
+    public int getRetries() {
+        return retries;
+    }
+
+    @Override
+    public long getDeadline() {
+        return deadline;
+    }
+
+    @Override
+    public String getVariables() {
+        return variables;
+    }
+
+    @Override
+    public Map<String, Object> getVariablesAsMap() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T getVariablesAsType(Class<T> variableType) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toJson() {
+        return variables;
+    }
+}
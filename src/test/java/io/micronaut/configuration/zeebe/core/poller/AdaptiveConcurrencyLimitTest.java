@@ -0,0 +1,83 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class AdaptiveConcurrencyLimitTest extends Assertions {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    @Test
+    void usedLimitGrowsByOnePerWindow() {
+        final AdaptiveConcurrencyLimit limit = newLimit(4);
+
+        for (int i = 0; i < 4; i++) {
+            limit.onSample(LATENCY, true, 4);
+        }
+        assertEquals(4, limit.getLimit());
+        limit.onSample(LATENCY, true, 4);
+        assertEquals(5, limit.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(LATENCY, true, 8);
+        }
+        assertEquals(8, limit.getLimit());
+    }
+
+    @Test
+    void unusedLimitIsNotRaised() {
+        final AdaptiveConcurrencyLimit limit = newLimit(4);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(LATENCY, true, 1);
+        }
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    void failureDecreasesLimitOncePerWindow() {
+        final AdaptiveConcurrencyLimit limit = newLimit(8);
+
+        limit.onSample(LATENCY, false, 8);
+        assertEquals(4, limit.getLimit());
+        limit.onSample(LATENCY, false, 4);
+        limit.onSample(LATENCY, false, 4);
+        limit.onSample(LATENCY, false, 4);
+        assertEquals(4, limit.getLimit());
+
+        limit.onSample(LATENCY, false, 4);
+        assertEquals(2, limit.getLimit());
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(LATENCY, false, 1);
+        }
+        assertEquals(1, limit.getLimit());
+    }
+
+    @Test
+    void latencySpikeDecreasesLimit() {
+        final AdaptiveConcurrencyLimit limit = newLimit(8);
+        limit.onSample(LATENCY, true, 1);
+        limit.onSample(LATENCY * 2, true, 1);
+        assertEquals(8, limit.getLimit());
+
+        limit.onSample(LATENCY * 5, true, 1);
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    void saturatedExecutorDecreasesLimit() {
+        final AdaptiveConcurrencyLimit limit = newLimit(8);
+        saturated.set(true);
+
+        limit.onSample(LATENCY, true, 8);
+        assertEquals(4, limit.getLimit());
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(int initialLimit) {
+        return new AdaptiveConcurrencyLimit("test", initialLimit, 1, 8, 0.5, 3, saturated::get);
+    }
+}
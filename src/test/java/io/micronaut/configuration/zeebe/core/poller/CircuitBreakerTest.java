@@ -0,0 +1,93 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CircuitBreakerTest extends Assertions {
+
+    private final AtomicInteger openings = new AtomicInteger();
+    private final CircuitBreaker breaker = new CircuitBreaker("test", ConcurrencyLimit.fixed(10), 4, 0.5, 2,
+            opened -> openings.incrementAndGet());
+
+    @Test
+    void breakerOpensWhenWindowReachesThreshold() {
+        breaker.onSample(1, false, 1);
+        breaker.onSample(1, false, 1);
+        breaker.onSample(1, true, 1);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(10, breaker.getLimit());
+
+        breaker.onSample(1, true, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(0, breaker.getLimit());
+        assertEquals(1, openings.get());
+
+        // Jobs that were in work when the breaker opened don't change it
+        breaker.onSample(1, false, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, openings.get());
+    }
+
+    @Test
+    void failuresOutOfWindowAreForgotten() {
+        breaker.onSample(1, false, 1);
+        for (int i = 0; i < 10; i++) {
+            breaker.onSample(1, true, 1);
+        }
+        breaker.onSample(1, false, 1);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, openings.get());
+    }
+
+    @Test
+    void succeededProbesCloseBreaker() {
+        open();
+        breaker.halfOpen();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(2, breaker.getLimit());
+
+        breaker.onSample(1, true, 1);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSample(1, true, 1);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(10, breaker.getLimit());
+
+        // The window starts empty after the breaker is closed
+        breaker.onSample(1, false, 1);
+        breaker.onSample(1, false, 1);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedProbeOpensBreakerAgain() {
+        open();
+        breaker.halfOpen();
+
+        breaker.onSample(1, true, 1);
+        breaker.onSample(1, false, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, openings.get());
+
+        breaker.halfOpen();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(2, breaker.getLimit());
+    }
+
+    @Test
+    void closedBreakerIsNotHalfOpened() {
+        breaker.halfOpen();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(10, breaker.getLimit());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onSample(1, false, 1);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,43 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import io.micronaut.configuration.zeebe.core.mock.TestJob;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+class KeyedRateLimiterTest extends Assertions {
+
+    private final KeyedRateLimiter limiter = new KeyedRateLimiter(10, job -> job.getCustomHeaders().get("account"));
+
+    @Test
+    void everyKeyHasItsOwnRate() {
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), limiter.getIntervalNanos());
+
+        assertEquals(0, limiter.tryReserve(newJob(1, "a"), 1));
+        assertEquals(0, limiter.tryReserve(newJob(2, "b"), 1));
+        assertTrue(limiter.tryReserve(newJob(3, "a"), 1) > 0);
+    }
+
+    @Test
+    void jobsWithoutKeyShareOneRate() {
+        assertEquals(0, limiter.tryReserve(newJob(1, null), 1));
+        assertTrue(limiter.tryReserve(newJob(2, null), 1) > 0);
+        assertEquals(0, limiter.tryReserve(newJob(3, "a"), 1));
+    }
+
+    @Test
+    void saturatedKeyIsNotReserved() {
+        assertEquals(0, limiter.tryReserve(newJob(1, "a"), 2));
+        assertTrue(limiter.tryReserve(newJob(2, "a"), 2) > 0);
+        assertTrue(limiter.tryReserve(newJob(3, "a"), 2) > 0);
+        assertEquals(-1, limiter.tryReserve(newJob(4, "a"), 2));
+        assertEquals(0, limiter.tryReserve(newJob(5, "b"), 2));
+    }
+
+    private static TestJob newJob(long key, String account) {
+        return new TestJob(key, "test", "{}", 3, System.currentTimeMillis() + 60_000,
+                (account == null) ? Map.of() : Map.of("account", account));
+    }
+}
@@ -0,0 +1,65 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class RateLimiterTest extends Assertions {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void rateIsParsed() {
+        assertEquals(200, RateLimiter.parseRate("200/s"));
+        assertEquals(0.5, RateLimiter.parseRate(" 5 / 10s "));
+        assertEquals(1000, RateLimiter.parseRate("1/ms"));
+        assertEquals(10.0 / 60, RateLimiter.parseRate("10/M"), 1e-9);
+        assertEquals(1.5 / 3600, RateLimiter.parseRate("1.5/h"), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.parseRate("200"));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.parseRate("0/s"));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.parseRate("1/0s"));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(0, 1));
+    }
+
+    @Test
+    void burstIsTakenAtOnce() {
+        final RateLimiter limiter = new RateLimiter(10, 5);
+
+        assertEquals(5, limiter.tryAcquire(10));
+        assertEquals(0, limiter.tryAcquire(1));
+        assertFalse(limiter.isIdle());
+
+        limiter.release(2);
+        assertEquals(2, limiter.tryAcquire(5));
+    }
+
+    @Test
+    void reservationsAreServedInOrder() {
+        final RateLimiter limiter = new RateLimiter(10, 1);
+        assertTrue(limiter.isIdle());
+
+        assertEquals(0, limiter.tryReserve(Long.MAX_VALUE));
+        assertBetween(INTERVAL, limiter.tryReserve(Long.MAX_VALUE));
+        assertBetween(2 * INTERVAL, limiter.tryReserve(Long.MAX_VALUE));
+        assertBetween(3 * INTERVAL, limiter.getWaitNanos());
+    }
+
+    @Test
+    void reservationBeyondMaxWaitIsNotMade() {
+        final RateLimiter limiter = new RateLimiter(10, 1);
+
+        assertEquals(0, limiter.tryReserve(0));
+        assertEquals(-1, limiter.tryReserve(INTERVAL / 2));
+        assertBetween(INTERVAL, limiter.tryReserve(INTERVAL));
+        assertBetween(2 * INTERVAL, limiter.getWaitNanos());
+    }
+
+    /**
+     * The wait is measured a bit later than it is expected, so it can be a bit shorter.
+     */
+    private static void assertBetween(long expectedNanos, long actualNanos) {
+        assertTrue(actualNanos <= expectedNanos && actualNanos > expectedNanos - INTERVAL / 2,
+                () -> String.format("Expected wait about %d ns, but was %d ns", expectedNanos, actualNanos));
+    }
+}
@@ -0,0 +1,114 @@
+package io.micronaut.configuration.zeebe.core.poller;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.micronaut.configuration.zeebe.core.configuration.WorkerConfiguration;
+import io.micronaut.configuration.zeebe.core.handler.JobCompletionDispatcher;
+import io.micronaut.configuration.zeebe.core.handler.TrackedJobHandler;
+import io.micronaut.configuration.zeebe.core.mock.FakeZeebeClient;
+import io.micronaut.configuration.zeebe.core.mock.TestJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.awaitility.Awaitility.await;
+
+class ZeebeJobPollerTest extends Assertions {
+
+    private final FakeZeebeClient client = new FakeZeebeClient();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    // Results of the jobs in work by key of job
+    private final Map<Long, CompletableFuture<Boolean>> jobs = new ConcurrentHashMap<>();
+    private final ActiveJobCounter activeJobs = new ActiveJobCounter();
+    private final JobCompletionDispatcher dispatcher = new JobCompletionDispatcher("test", 4);
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void restartedWorkerCountsJobsOfStoppedPoller() {
+        final ZeebeJobPoller stopped = newPoller().open();
+        await().until(() -> client.getCommands("activate").size() == 1);
+        client.getCommands("activate").get(0).activate(List.of(new TestJob(1, "{}"), new TestJob(2, "{}")));
+        await().until(() -> jobs.size() == 2);
+        stopped.close();
+
+        final ZeebeJobPoller restarted = newPoller().open();
+        assertEquals(2, restarted.getActiveJobs());
+        jobs.get(1L).complete(true);
+        await().during(Duration.ofMillis(300))
+                .atMost(Duration.ofSeconds(2))
+                .until(() -> client.getCommands("activate").size() == 1);
+        assertEquals(1, restarted.getActiveJobs());
+
+        jobs.get(2L).complete(true);
+        await().until(() -> client.getCommands("activate").size() == 2);
+        assertEquals(2, client.getCommands("activate").get(1).getMaxJobsToActivate());
+        assertEquals(0, restarted.getActiveJobs());
+    }
+
+    @Test
+    void jobOfSaturatedKeyIsReturnedThroughCompletionWindow() {
+        final ZeebeJobPoller poller = new ZeebeJobPoller(newOptions(4)
+                .keyRateLimiter(new KeyedRateLimiter(1, job -> job.getCustomHeaders().get("account")), dispatcher)
+                .build())
+                .open();
+        await().until(() -> client.getCommands("activate").size() == 1);
+        client.getCommands("activate").get(0).activate(List.of(newJob(1), newJob(2), newJob(3)));
+
+        await().until(() -> client.getCommands("fail").size() == 1);
+        final FakeZeebeClient.Command returned = client.getCommands("fail").get(0);
+        assertEquals(3, returned.getJobKey());
+        assertEquals(3, returned.getRetries());
+        assertEquals(1, dispatcher.getInFlight());
+        assertEquals(Set.of(1L), jobs.keySet());
+        assertEquals(3, poller.getActiveJobs());
+
+        returned.acknowledge();
+        assertEquals(2, poller.getActiveJobs());
+    }
+
+    private static TestJob newJob(long key) {
+        return new TestJob(key, "test", "{}", 3, System.currentTimeMillis() + 60_000, Map.of("account", "a"));
+    }
+
+    private ZeebeJobPoller newPoller() {
+        return new ZeebeJobPoller(newOptions(2)
+                .activeJobs(activeJobs)
+                .build());
+    }
+
+    private JobPollerOptions.Builder newOptions(int maxJobsActive) {
+        final WorkerConfiguration configuration = new WorkerConfiguration();
+        configuration.setType("test");
+        configuration.setTimeout(Duration.ofMinutes(1));
+        configuration.setMaxJobsToActivate(maxJobsActive);
+        configuration.setPollInterval(Duration.ofMillis(10));
+        configuration.setRequestTimeout(Duration.ofSeconds(10));
+        configuration.setFetchVariables(List.of());
+        configuration.setHandler(new TrackedJobHandler() {
+            @Override
+            public CompletableFuture<Boolean> execute(JobClient client, ActivatedJob job) {
+                return jobs.computeIfAbsent(job.getKey(), key -> new CompletableFuture<>());
+            }
+
+            @Override
+            public void handle(JobClient client, ActivatedJob job) {
+                execute(client, job);
+            }
+        });
+        return JobPollerOptions.builder(client.getClient(), configuration, "test",
+                ConcurrencyLimit.fixed(maxJobsActive), scheduler);
+    }
+}
@@ -0,0 +1,130 @@
+package io.micronaut.configuration.zeebe.core.stream;
+
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micronaut.configuration.zeebe.core.configuration.ZeebeConfiguration;
+import io.micronaut.configuration.zeebe.core.connection.ZeebeClusterConnectionManager;
+import io.micronaut.configuration.zeebe.core.mock.FakeZeebeClient;
+import io.micronaut.configuration.zeebe.core.mock.TestJob;
+import io.micronaut.runtime.ApplicationConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.awaitility.Awaitility.await;
+
+class ZeebeJobStreamTest extends Assertions {
+
+    private final FakeZeebeClient client = new FakeZeebeClient();
+    private final ZeebeJobStream jobStream = new ZeebeJobStream(newConnectionManager(),
+            new ApplicationConfiguration(), newConfiguration());
+    private final List<ActivatedJob> received = new CopyOnWriteArrayList<>();
+
+    @Test
+    void activationRequestsOutstandingDemand() {
+        final BaseSubscriber<ActivatedJob> subscriber = subscribe();
+        assertTrue(client.getCommands("activate").isEmpty());
+
+        subscriber.request(3);
+        await().until(() -> client.getCommands("activate").size() == 1);
+        assertEquals(3, client.getCommands("activate").get(0).getMaxJobsToActivate());
+
+        client.getCommands("activate").get(0).activate(newJobs(1, 2));
+        await().until(() -> client.getCommands("activate").size() == 2);
+        assertEquals(2, received.size());
+        assertEquals(1, client.getCommands("activate").get(1).getMaxJobsToActivate());
+
+        client.getCommands("activate").get(1).activate(newJobs(3, 1));
+        assertEquals(3, received.size());
+        subscriber.dispose();
+    }
+
+    @Test
+    void activationIsCappedByMaxJobsToActivate() {
+        final BaseSubscriber<ActivatedJob> subscriber = subscribe();
+
+        subscriber.request(100);
+        await().until(() -> client.getCommands("activate").size() == 1);
+        assertEquals(32, client.getCommands("activate").get(0).getMaxJobsToActivate());
+
+        client.getCommands("activate").get(0).activate(newJobs(1, 32));
+        await().until(() -> client.getCommands("activate").size() == 2);
+        assertEquals(32, client.getCommands("activate").get(1).getMaxJobsToActivate());
+
+        client.getCommands("activate").get(1).activate(newJobs(33, 32));
+        await().until(() -> client.getCommands("activate").size() == 3);
+        client.getCommands("activate").get(2).activate(newJobs(65, 32));
+        await().until(() -> client.getCommands("activate").size() == 4);
+        assertEquals(96, received.size());
+        assertEquals(4, client.getCommands("activate").get(3).getMaxJobsToActivate());
+        subscriber.dispose();
+    }
+
+    @Test
+    void onlyOneActivationIsInProgress() {
+        final BaseSubscriber<ActivatedJob> subscriber = subscribe();
+
+        subscriber.request(1);
+        subscriber.request(1);
+        await().during(Duration.ofMillis(200))
+                .atMost(Duration.ofSeconds(1))
+                .until(() -> client.getCommands("activate").size() == 1);
+        assertTrue(client.getCommands("activate").get(0).getMaxJobsToActivate() <= 2);
+        subscriber.dispose();
+    }
+
+    private BaseSubscriber<ActivatedJob> subscribe() {
+        final BaseSubscriber<ActivatedJob> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // The test requests the jobs
+            }
+
+            @Override
+            protected void hookOnNext(ActivatedJob job) {
+                received.add(job);
+            }
+        };
+        jobStream.jobs("test").subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static List<ActivatedJob> newJobs(long firstKey, int count) {
+        return LongStream.range(firstKey, firstKey + count)
+                .mapToObj(key -> new TestJob(key, "{}"))
+                .collect(Collectors.toList());
+    }
+
+    private ZeebeClusterConnectionManager newConnectionManager() {
+        return new ZeebeClusterConnectionManager(event -> {
+        }, newConfiguration()) {
+            @Override
+            public Optional<ZeebeClient> getClient() {
+                return Optional.of(client.getClient());
+            }
+        };
+    }
+
+    /**
+     * @return Configuration without any settings
+     */
+    private static ZeebeConfiguration newConfiguration() {
+        return (ZeebeConfiguration) Proxy.newProxyInstance(ZeebeConfiguration.class.getClassLoader(),
+                new Class<?>[]{ZeebeConfiguration.class}, (proxy, method, args) -> {
+                    if (method.getReturnType() == Optional.class)
+                        return Optional.empty();
+                    if (method.getReturnType() == boolean.class)
+                        return false;
+                    return null;
+                });
+    }
+}